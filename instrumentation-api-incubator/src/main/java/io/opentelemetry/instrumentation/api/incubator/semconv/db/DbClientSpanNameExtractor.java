@@ -100,20 +100,21 @@ public abstract class DbClientSpanNameExtractor<REQUEST> implements SpanNameExtr
       if (rawQueryTexts.isEmpty()) {
         return computeSpanName(namespace, null, null);
       }
+      boolean isMultiQueryBatch = rawQueryTexts.size() > 1 || getter.isMultiQueryBatch(request);
 
       if (!SemconvStability.emitStableDatabaseSemconv()) {
-        if (rawQueryTexts.size() > 1) { // for backcompat(?)
+        if (isMultiQueryBatch) { // for backcompat(?)
           return computeSpanName(namespace, null, null);
         }
         SqlStatementInfo sanitizedStatement =
-            SqlStatementSanitizerUtil.sanitize(rawQueryTexts.iterator().next());
+            SqlStatementSanitizerUtil.sanitize(getter, request, rawQueryTexts.iterator().next());
         return computeSpanName(
             namespace, sanitizedStatement.getOperation(), sanitizedStatement.getMainIdentifier());
       }
 
-      if (rawQueryTexts.size() == 1) {
+      if (!isMultiQueryBatch) {
         SqlStatementInfo sanitizedStatement =
-            SqlStatementSanitizerUtil.sanitize(rawQueryTexts.iterator().next());
+            SqlStatementSanitizerUtil.sanitize(getter, request, rawQueryTexts.iterator().next());
         String operation = sanitizedStatement.getOperation();
         if (isBatch(request)) {
           operation = "BATCH " + operation;
@@ -121,6 +122,10 @@ public abstract class DbClientSpanNameExtractor<REQUEST> implements SpanNameExtr
         return computeSpanName(namespace, operation, sanitizedStatement.getMainIdentifier());
       }
 
+      if (getter.isRawQueryTextsTruncated(request)) {
+        // the query texts that were left out could have another operation or collection
+        return computeSpanName(namespace, "BATCH", null);
+      }
       MultiQuery multiQuery = MultiQuery.analyze(rawQueryTexts, false);
       return computeSpanName(
           namespace,
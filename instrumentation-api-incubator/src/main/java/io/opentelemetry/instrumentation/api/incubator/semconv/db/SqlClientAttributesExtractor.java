@@ -89,11 +89,13 @@ public final class SqlClientAttributesExtractor<REQUEST, RESPONSE>
 
     Long batchSize = getter.getBatchSize(request);
     boolean isBatch = batchSize != null && batchSize > 1;
+    boolean isMultiQueryBatch = rawQueryTexts.size() > 1 || getter.isMultiQueryBatch(request);
 
     if (SemconvStability.emitOldDatabaseSemconv()) {
-      if (rawQueryTexts.size() == 1) { // for backcompat(?)
+      if (!isMultiQueryBatch && rawQueryTexts.size() == 1) { // for backcompat(?)
         String rawQueryText = rawQueryTexts.iterator().next();
-        SqlStatementInfo sanitizedStatement = SqlStatementSanitizerUtil.sanitize(rawQueryText);
+        SqlStatementInfo sanitizedStatement =
+            SqlStatementSanitizerUtil.sanitize(getter, request, rawQueryText);
         String operation = sanitizedStatement.getOperation();
         internalSet(
             attributes,
@@ -110,9 +112,10 @@ public final class SqlClientAttributesExtractor<REQUEST, RESPONSE>
       if (isBatch) {
         internalSet(attributes, DB_OPERATION_BATCH_SIZE, batchSize);
       }
-      if (rawQueryTexts.size() == 1) {
+      if (!isMultiQueryBatch && rawQueryTexts.size() == 1) {
         String rawQueryText = rawQueryTexts.iterator().next();
-        SqlStatementInfo sanitizedStatement = SqlStatementSanitizerUtil.sanitize(rawQueryText);
+        SqlStatementInfo sanitizedStatement =
+            SqlStatementSanitizerUtil.sanitize(getter, request, rawQueryText);
         String operation = sanitizedStatement.getOperation();
         internalSet(
             attributes,
@@ -122,18 +125,23 @@ public final class SqlClientAttributesExtractor<REQUEST, RESPONSE>
         if (!SQL_CALL.equals(operation)) {
           internalSet(attributes, DB_COLLECTION_NAME, sanitizedStatement.getMainIdentifier());
         }
-      } else if (rawQueryTexts.size() > 1) {
-        MultiQuery multiQuery =
-            MultiQuery.analyze(getter.getRawQueryTexts(request), statementSanitizationEnabled);
+      } else if (isMultiQueryBatch && !rawQueryTexts.isEmpty()) {
+        MultiQuery multiQuery = MultiQuery.analyze(rawQueryTexts, statementSanitizationEnabled);
         internalSet(attributes, DB_QUERY_TEXT, join("; ", multiQuery.getStatements()));
 
-        String operation =
-            multiQuery.getOperation() != null ? "BATCH " + multiQuery.getOperation() : "BATCH";
-        internalSet(attributes, DB_OPERATION_NAME, operation);
-
-        if (multiQuery.getMainIdentifier() != null
-            && (multiQuery.getOperation() == null || !SQL_CALL.equals(multiQuery.getOperation()))) {
-          internalSet(attributes, DB_COLLECTION_NAME, multiQuery.getMainIdentifier());
+        if (getter.isRawQueryTextsTruncated(request)) {
+          // the query texts that were left out could have another operation or collection
+          internalSet(attributes, DB_OPERATION_NAME, "BATCH");
+        } else {
+          String operation =
+              multiQuery.getOperation() != null ? "BATCH " + multiQuery.getOperation() : "BATCH";
+          internalSet(attributes, DB_OPERATION_NAME, operation);
+
+          if (multiQuery.getMainIdentifier() != null
+              && (multiQuery.getOperation() == null
+                  || !SQL_CALL.equals(multiQuery.getOperation()))) {
+            internalSet(attributes, DB_COLLECTION_NAME, multiQuery.getMainIdentifier());
+          }
         }
       }
     }
@@ -63,6 +63,40 @@ public interface SqlClientAttributesGetter<REQUEST, RESPONSE>
    */
   Collection<String> getRawQueryTexts(REQUEST request);
 
+  /**
+   * Returns the sanitized form of the single raw query text of {@code request} when it was already
+   * computed, for example when a prepared statement was created. This spares the {@link
+   * SqlClientAttributesExtractor} from looking up the raw query text in the sanitizer cache every
+   * time a prepared statement is executed. The value must be computed with {@link
+   * SqlStatementSanitizer#create(boolean) SqlStatementSanitizer.create(true)}.
+   *
+   * <p>Returning {@code null} makes the extractor sanitize the raw query text itself.
+   */
+  @Nullable
+  default SqlStatementInfo getSanitizedQueryText(REQUEST request) {
+    return null;
+  }
+
+  /**
+   * Returns whether {@code request} executes a batch of separately added query texts, for example a
+   * JDBC statement batch. {@link #getRawQueryTexts(REQUEST)} then returns the distinct query texts
+   * of the batch, which is a single one when the same query text was added repeatedly. Requests
+   * with more than one raw query text are always treated as such a batch.
+   */
+  default boolean isMultiQueryBatch(REQUEST request) {
+    return false;
+  }
+
+  /**
+   * Returns whether {@link #getRawQueryTexts(REQUEST)} returns only some of the distinct query
+   * texts of a batch, because the batch had too many of them. The {@link
+   * SqlClientAttributesExtractor} then doesn't derive the operation and collection name from the
+   * query texts, as the query texts that were left out could have a different one.
+   */
+  default boolean isRawQueryTextsTruncated(REQUEST request) {
+    return false;
+  }
+
   // TODO: make this required to implement
   @Nullable
   default Long getBatchSize(REQUEST request) {
@@ -7,7 +7,8 @@ package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
 import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.SQL_STATEMENT_SANITIZER_CACHE_MISS;
 
-import com.google.auto.value.AutoValue;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlStatementSanitizerCacheMetrics;
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
 import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import javax.annotation.Nullable;
@@ -19,9 +20,35 @@ import javax.annotation.Nullable;
 public final class SqlStatementSanitizer {
   private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
 
-  private static final Cache<CacheKey, SqlStatementInfo> sqlToStatementInfoCache =
-      Cache.bounded(1000);
+  // the cache capacity is expressed as the total length of the cached statements (per dialect), so
+  // that a few large statements can't take up as much memory as a lot of small ones
+  private static final int DEFAULT_CACHE_MAX_WEIGHT = 1024 * 1024;
+  private static final long CACHE_MAX_WEIGHT =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.experimental.db-statement-sanitizer.cache-size",
+          DEFAULT_CACHE_MAX_WEIGHT);
+  // indexed by the dialect ordinal
+  private static final Cache<String, SqlStatementInfo>[] sqlToStatementInfoCaches = createCaches();
   private static final int LARGE_STATEMENT_THRESHOLD = 10 * 1024;
+  // when set, only (approximately) this many characters of large statements are sanitized, and
+  // repeated VALUES tuples are collapsed, which bounds the work done for multi-MB bulk inserts
+  private static final int LARGE_STATEMENT_SCAN_LIMIT =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.experimental.db-statement-sanitizer.large-statement-scan-limit", 0);
+
+  @SuppressWarnings("unchecked") // generic array creation
+  private static Cache<String, SqlStatementInfo>[] createCaches() {
+    Cache<String, SqlStatementInfo>[] caches =
+        (Cache<String, SqlStatementInfo>[]) new Cache<?, ?>[SqlDialect.values().length];
+    for (int i = 0; i < caches.length; i++) {
+      caches[i] =
+          Cache.weighted(
+              CACHE_MAX_WEIGHT,
+              (statement, info) -> Math.max(1, statement.length()),
+              (statement, info) -> SqlStatementSanitizerCacheMetrics.recordEviction());
+    }
+    return caches;
+  }
 
   public static SqlStatementSanitizer create(boolean statementSanitizationEnabled) {
     return new SqlStatementSanitizer(statementSanitizationEnabled);
@@ -45,10 +72,22 @@ public final class SqlStatementSanitizer {
     // cache growing too large
     // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/13180
     if (statement.length() > LARGE_STATEMENT_THRESHOLD) {
-      return sanitizeImpl(statement, dialect);
+      return sanitizeLarge(statement, dialect, LARGE_STATEMENT_SCAN_LIMIT);
     }
-    return sqlToStatementInfoCache.computeIfAbsent(
-        CacheKey.create(statement, dialect), k -> sanitizeImpl(statement, dialect));
+    Cache<String, SqlStatementInfo> cache = getCache(dialect);
+    SqlStatementInfo statementInfo = cache.get(statement);
+    if (statementInfo != null) {
+      SqlStatementSanitizerCacheMetrics.recordHit();
+      return statementInfo;
+    }
+    SqlStatementSanitizerCacheMetrics.recordMiss();
+    statementInfo = sanitizeImpl(statement, dialect);
+    cache.put(statement, statementInfo);
+    return statementInfo;
+  }
+
+  private static Cache<String, SqlStatementInfo> getCache(SqlDialect dialect) {
+    return sqlToStatementInfoCaches[dialect.ordinal()];
   }
 
   private static SqlStatementInfo sanitizeImpl(String statement, SqlDialect dialect) {
@@ -57,19 +96,13 @@ public final class SqlStatementSanitizer {
   }
 
   // visible for tests
-  static boolean isCached(String statement) {
-    return sqlToStatementInfoCache.get(CacheKey.create(statement, SqlDialect.DEFAULT)) != null;
+  static SqlStatementInfo sanitizeLarge(String statement, SqlDialect dialect, int scanLimit) {
+    supportability.incrementCounter(SQL_STATEMENT_SANITIZER_CACHE_MISS);
+    return AutoSqlSanitizer.sanitize(statement, dialect, scanLimit);
   }
 
-  @AutoValue
-  abstract static class CacheKey {
-
-    static CacheKey create(String statement, SqlDialect dialect) {
-      return new AutoValue_SqlStatementSanitizer_CacheKey(statement, dialect);
-    }
-
-    abstract String getStatement();
-
-    abstract SqlDialect getDialect();
+  // visible for tests
+  static boolean isCached(String statement) {
+    return getCache(SqlDialect.DEFAULT).get(statement) != null;
   }
 }
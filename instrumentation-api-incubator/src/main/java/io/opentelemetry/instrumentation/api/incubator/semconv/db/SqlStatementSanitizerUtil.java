@@ -23,5 +23,11 @@ class SqlStatementSanitizerUtil {
     return map.computeIfAbsent(queryText, sanitizer::sanitize);
   }
 
+  static <REQUEST> SqlStatementInfo sanitize(
+      SqlClientAttributesGetter<REQUEST, ?> getter, REQUEST request, String queryText) {
+    SqlStatementInfo sanitizedStatement = getter.getSanitizedQueryText(request);
+    return sanitizedStatement != null ? sanitizedStatement : sanitize(queryText);
+  }
+
   private SqlStatementSanitizerUtil() {}
 }
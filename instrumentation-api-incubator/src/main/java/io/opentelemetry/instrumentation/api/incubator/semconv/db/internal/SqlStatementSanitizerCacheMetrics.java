@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlStatementSanitizer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of {@link SqlStatementSanitizer} cache hits, misses and evictions, and exposes them
+ * as metrics.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SqlStatementSanitizerCacheMetrics {
+
+  private static final AttributeKey<String> RESULT = stringKey("result");
+  private static final Attributes HIT = Attributes.of(RESULT, "hit");
+  private static final Attributes MISS = Attributes.of(RESULT, "miss");
+
+  private static final LongAdder hits = new LongAdder();
+  private static final LongAdder misses = new LongAdder();
+  private static final LongAdder evictions = new LongAdder();
+
+  public static void recordHit() {
+    hits.increment();
+  }
+
+  public static void recordMiss() {
+    misses.increment();
+  }
+
+  public static void recordEviction() {
+    evictions.increment();
+  }
+
+  public static long getHits() {
+    return hits.sum();
+  }
+
+  public static long getMisses() {
+    return misses.sum();
+  }
+
+  public static long getEvictions() {
+    return evictions.sum();
+  }
+
+  /** Registers asynchronous counters reporting the cache statistics with the given meter. */
+  public static void registerMetrics(Meter meter) {
+    meter
+        .counterBuilder("otel.instrumentation.sql_statement_sanitizer.cache.lookups")
+        .setUnit("{lookup}")
+        .setDescription("Number of SQL statement sanitizer cache lookups.")
+        .buildWithCallback(
+            measurement -> {
+              measurement.record(hits.sum(), HIT);
+              measurement.record(misses.sum(), MISS);
+            });
+    meter
+        .counterBuilder("otel.instrumentation.sql_statement_sanitizer.cache.evictions")
+        .setUnit("{eviction}")
+        .setDescription("Number of entries evicted from the SQL statement sanitizer cache.")
+        .buildWithCallback(measurement -> measurement.record(evictions.sum()));
+  }
+
+  private SqlStatementSanitizerCacheMetrics() {}
+}
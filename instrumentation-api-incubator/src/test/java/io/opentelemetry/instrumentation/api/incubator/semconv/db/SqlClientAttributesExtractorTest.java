@@ -82,6 +82,14 @@ class SqlClientAttributesExtractorTest {
     }
   }
 
+  static class TestSanitizedAttributesGetter extends TestAttributesGetter {
+
+    @Override
+    public SqlStatementInfo getSanitizedQueryText(Map<String, Object> map) {
+      return read(map, "db.sanitized_statement", SqlStatementInfo.class);
+    }
+  }
+
   static class TestMultiAttributesGetter extends TestAttributesGetter
       implements SqlClientAttributesGetter<Map<String, Object>, Void> {
 
@@ -92,6 +100,19 @@ class SqlClientAttributesExtractorTest {
     }
   }
 
+  static class TestBatchAttributesGetter extends TestMultiAttributesGetter {
+
+    @Override
+    public boolean isMultiQueryBatch(Map<String, Object> map) {
+      return true;
+    }
+
+    @Override
+    public boolean isRawQueryTextsTruncated(Map<String, Object> map) {
+      return Boolean.TRUE.equals(map.get("db.statements_truncated"));
+    }
+  }
+
   @SuppressWarnings("deprecation") // TODO DbIncubatingAttributes.DB_CONNECTION_STRING deprecation
   @Test
   void shouldExtractAllAttributes() {
@@ -348,6 +369,76 @@ class SqlClientAttributesExtractorTest {
     assertThat(endAttributes.build().isEmpty()).isTrue();
   }
 
+  @Test
+  void shouldExtractMultiQueryBatchWithSingleQueryText() {
+    // given
+    Map<String, Object> request = new HashMap<>();
+    request.put("db.name", "potatoes");
+    request.put("db.statements", singleton("INSERT INTO potato VALUES(1)"));
+    request.put(DB_OPERATION_BATCH_SIZE.getKey(), 2L);
+
+    Context context = Context.root();
+
+    AttributesExtractor<Map<String, Object>, Void> underTest =
+        SqlClientAttributesExtractor.create(new TestBatchAttributesGetter());
+
+    // when
+    AttributesBuilder startAttributes = Attributes.builder();
+    underTest.onStart(startAttributes, context, request);
+
+    // then
+    if (SemconvStability.emitStableDatabaseSemconv() && SemconvStability.emitOldDatabaseSemconv()) {
+      assertThat(startAttributes.build())
+          .containsOnly(
+              entry(DbIncubatingAttributes.DB_NAME, "potatoes"),
+              entry(DbAttributes.DB_NAMESPACE, "potatoes"),
+              entry(DbAttributes.DB_QUERY_TEXT, "INSERT INTO potato VALUES(?)"),
+              entry(DbAttributes.DB_OPERATION_NAME, "BATCH INSERT"),
+              entry(DbAttributes.DB_COLLECTION_NAME, "potato"),
+              entry(DB_OPERATION_BATCH_SIZE, 2L));
+    } else if (SemconvStability.emitOldDatabaseSemconv()) {
+      assertThat(startAttributes.build())
+          .containsOnly(entry(DbIncubatingAttributes.DB_NAME, "potatoes"));
+    } else if (SemconvStability.emitStableDatabaseSemconv()) {
+      assertThat(startAttributes.build())
+          .containsOnly(
+              entry(DbAttributes.DB_NAMESPACE, "potatoes"),
+              entry(DbAttributes.DB_QUERY_TEXT, "INSERT INTO potato VALUES(?)"),
+              entry(DbAttributes.DB_OPERATION_NAME, "BATCH INSERT"),
+              entry(DbAttributes.DB_COLLECTION_NAME, "potato"),
+              entry(DB_OPERATION_BATCH_SIZE, 2L));
+    }
+  }
+
+  @Test
+  void shouldNotExtractOperationOfTruncatedBatch() {
+    // given
+    Map<String, Object> request = new HashMap<>();
+    request.put("db.name", "potatoes");
+    request.put(
+        "db.statements",
+        Arrays.asList("INSERT INTO potato VALUES(1)", "INSERT INTO potato VALUES(2)"));
+    request.put("db.statements_truncated", true);
+    request.put(DB_OPERATION_BATCH_SIZE.getKey(), 3L);
+
+    Context context = Context.root();
+
+    AttributesExtractor<Map<String, Object>, Void> underTest =
+        SqlClientAttributesExtractor.create(new TestBatchAttributesGetter());
+
+    // when
+    AttributesBuilder startAttributes = Attributes.builder();
+    underTest.onStart(startAttributes, context, request);
+
+    // then
+    if (SemconvStability.emitStableDatabaseSemconv()) {
+      assertThat(startAttributes.build())
+          .containsEntry(DbAttributes.DB_QUERY_TEXT, "INSERT INTO potato VALUES(?)")
+          .containsEntry(DbAttributes.DB_OPERATION_NAME, "BATCH")
+          .doesNotContainKey(DbAttributes.DB_COLLECTION_NAME);
+    }
+  }
+
   @Test
   void shouldIgnoreBatchSizeOne() {
     // given
@@ -468,4 +559,36 @@ class SqlClientAttributesExtractorTest {
     assertThat(startAttributes.build()).doesNotContainKey(DB_QUERY_PARAMETER.getAttributeKey("0"));
     assertThat(endAttributes.build().isEmpty()).isTrue();
   }
+
+  @Test
+  void shouldUseSanitizedQueryTextFromGetter() {
+    // given
+    Map<String, Object> request = new HashMap<>();
+    request.put("db.name", "potatoes");
+    request.put("db.statement", "SELECT * FROM potato WHERE id=12345");
+    request.put(
+        "db.sanitized_statement",
+        SqlStatementInfo.create("SELECT * FROM potato WHERE id=?", "SELECT", "precomputed"));
+
+    Context context = Context.root();
+
+    AttributesExtractor<Map<String, Object>, Void> underTest =
+        SqlClientAttributesExtractor.create(new TestSanitizedAttributesGetter());
+
+    // when
+    AttributesBuilder attributes = Attributes.builder();
+    underTest.onStart(attributes, context, request);
+
+    // then
+    if (SemconvStability.emitOldDatabaseSemconv()) {
+      assertThat(attributes.build())
+          .containsEntry(DbIncubatingAttributes.DB_STATEMENT, "SELECT * FROM potato WHERE id=?")
+          .containsEntry(DbIncubatingAttributes.DB_SQL_TABLE, "precomputed");
+    }
+    if (SemconvStability.emitStableDatabaseSemconv()) {
+      assertThat(attributes.build())
+          .containsEntry(DbAttributes.DB_QUERY_TEXT, "SELECT * FROM potato WHERE id=?")
+          .containsEntry(DbAttributes.DB_COLLECTION_NAME, "precomputed");
+    }
+  }
 }
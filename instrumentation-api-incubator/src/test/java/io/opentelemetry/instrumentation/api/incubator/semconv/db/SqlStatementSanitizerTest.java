@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlStatementSanitizerCacheMetrics;
 import java.util.Random;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -156,6 +157,79 @@ class SqlStatementSanitizerTest {
     assertThat(SqlStatementSanitizer.isCached(largeStatement)).isFalse();
   }
 
+  @Test
+  void largeStatementScanLimit() {
+    StringBuilder s = new StringBuilder("INSERT INTO test (id, name) VALUES ");
+    for (int i = 0; i < 100000; i++) {
+      if (i > 0) {
+        s.append(", ");
+      }
+      s.append("(").append(i).append(", 'name").append(i).append("')");
+    }
+    s.append(" ON DUPLICATE KEY UPDATE name = 'x'");
+
+    SqlStatementInfo result =
+        SqlStatementSanitizer.sanitizeLarge(s.toString(), SqlDialect.DEFAULT, 64 * 1024);
+
+    assertThat(result.getFullStatement())
+        .isEqualTo("INSERT INTO test (id, name) VALUES (?, ?)");
+    assertThat(result.getOperation()).isEqualTo("INSERT");
+    assertThat(result.getMainIdentifier()).isEqualTo("test");
+  }
+
+  @Test
+  void largeStatementCollapsesOnlyIdenticalValuesTuples() {
+    String statement =
+        "INSERT INTO test VALUES (1, 'a'), (2, 'b', 3), (4, 'c') "
+            + "ON DUPLICATE KEY UPDATE a = (5), b = 6";
+
+    SqlStatementInfo result =
+        SqlStatementSanitizer.sanitizeLarge(statement, SqlDialect.DEFAULT, 1024 * 1024);
+
+    // the last tuple is the same as the first one, but they aren't consecutive
+    assertThat(result.getFullStatement())
+        .isEqualTo(
+            "INSERT INTO test VALUES (?, ?), (?, ?, ?), (?, ?) "
+                + "ON DUPLICATE KEY UPDATE a = (?), b = ?");
+  }
+
+  @Test
+  void largeStatementCollapsesConsecutiveValuesTuples() {
+    String statement = "INSERT INTO test VALUES (1, 'a'), (2, 'b'), (3), (4), (5, 'c'), (6, 'd')";
+
+    SqlStatementInfo result =
+        SqlStatementSanitizer.sanitizeLarge(statement, SqlDialect.DEFAULT, 1024 * 1024);
+
+    assertThat(result.getFullStatement())
+        .isEqualTo("INSERT INTO test VALUES (?, ?), (?), (?, ?)");
+  }
+
+  @Test
+  void cacheIsSeparatedByDialect() {
+    String statement = "SELECT * FROM TABLE WHERE FIELD = \"value\"";
+    SqlStatementInfo defaultResult =
+        SqlStatementSanitizer.create(true).sanitize(statement, SqlDialect.DEFAULT);
+    SqlStatementInfo couchbaseResult =
+        SqlStatementSanitizer.create(true).sanitize(statement, SqlDialect.COUCHBASE);
+
+    assertThat(defaultResult.getFullStatement()).isEqualTo(statement);
+    assertThat(couchbaseResult.getFullStatement())
+        .isEqualTo("SELECT * FROM TABLE WHERE FIELD = ?");
+  }
+
+  @Test
+  void cacheMetrics() {
+    String statement = "SELECT * FROM TABLE WHERE FIELD = 1234 AND ID = " + new Random().nextInt();
+    long hits = SqlStatementSanitizerCacheMetrics.getHits();
+    long misses = SqlStatementSanitizerCacheMetrics.getMisses();
+
+    SqlStatementSanitizer.create(true).sanitize(statement);
+    SqlStatementSanitizer.create(true).sanitize(statement);
+
+    assertThat(SqlStatementSanitizerCacheMetrics.getMisses()).isEqualTo(misses + 1);
+    assertThat(SqlStatementSanitizerCacheMetrics.getHits()).isEqualTo(hits + 1);
+  }
+
   private static Stream<Arguments> sqlArgs() {
     return Stream.of(
         Arguments.of("SELECT * FROM TABLE WHERE FIELD=1234", "SELECT * FROM TABLE WHERE FIELD=?"),
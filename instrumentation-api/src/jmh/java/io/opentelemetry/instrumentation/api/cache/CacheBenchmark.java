@@ -6,11 +6,16 @@
 package io.opentelemetry.instrumentation.api.cache;
 
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -155,4 +160,88 @@ public class CacheBenchmark {
     blackhole.consume(boundedSmallCache.get(key));
     blackhole.consume(boundedSmallCache.get(key2));
   }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_hitRate(HitRateState state, HitRateCounters counters, Blackhole blackhole) {
+    hitRate(state, counters, blackhole);
+  }
+
+  @Benchmark
+  @Threads(10)
+  public void threads10_hitRate(HitRateState state, HitRateCounters counters, Blackhole blackhole) {
+    hitRate(state, counters, blackhole);
+  }
+
+  private static void hitRate(HitRateState state, HitRateCounters counters, Blackhole blackhole) {
+    Integer key = state.keys[counters.index++ & (state.keys.length - 1)];
+    Object value = state.cache.get(key);
+    if (value == null) {
+      counters.misses++;
+      state.cache.put(key, key);
+    } else {
+      counters.hits++;
+    }
+    blackhole.consume(value);
+  }
+
+  /**
+   * A cache that holds 10% of the keys of a Zipf distributed workload. In the {@code zipfWithScan}
+   * workload every fourth access is replaced with a key that is never requested again, like the
+   * class names looked up once during agent startup.
+   */
+  @State(Scope.Benchmark)
+  public static class HitRateState {
+    private static final int DISTINCT_KEYS = 10_000;
+    private static final int CAPACITY = DISTINCT_KEYS / 10;
+
+    @Param({"bounded", "tinyLfu"})
+    public String cacheType;
+
+    @Param({"zipf", "zipfWithScan"})
+    public String workload;
+
+    Cache<Object, Object> cache;
+    Integer[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      cache = "tinyLfu".equals(cacheType) ? Cache.tinyLfu(CAPACITY) : Cache.bounded(CAPACITY);
+
+      double[] cumulativeProbability = new double[DISTINCT_KEYS];
+      double sum = 0;
+      for (int i = 0; i < DISTINCT_KEYS; i++) {
+        sum += 1.0 / (i + 1);
+        cumulativeProbability[i] = sum;
+      }
+
+      Random random = new Random(42);
+      boolean scan = "zipfWithScan".equals(workload);
+      int scanKey = DISTINCT_KEYS;
+      keys = new Integer[1 << 20];
+      for (int i = 0; i < keys.length; i++) {
+        if (scan && i % 4 == 3) {
+          keys[i] = scanKey++;
+          continue;
+        }
+        int index = Arrays.binarySearch(cumulativeProbability, random.nextDouble() * sum);
+        keys[i] = index >= 0 ? index : Math.min(-index - 1, DISTINCT_KEYS - 1);
+      }
+    }
+  }
+
+  /** Hit rate of the cache is reported as {@code hits / (hits + misses)}. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class HitRateCounters {
+    public long hits;
+    public long misses;
+    int index;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      hits = 0;
+      misses = 0;
+    }
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up each captured header by name with collecting the captured headers in a
+ * single pass over all headers of a request, which is used when at least {@code
+ * CapturedHttpHeaders.MIN_BULK_CAPTURED_HEADERS} headers are captured.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class CapturedHttpHeadersBenchmark {
+
+  private static final String[] REQUEST_HEADER_NAMES = {
+    "Host",
+    "User-Agent",
+    "Accept",
+    "Accept-Encoding",
+    "Accept-Language",
+    "Connection",
+    "Content-Type",
+    "Content-Length",
+    "Cookie",
+    "Authorization",
+    "Cache-Control",
+    "Referer",
+    "Origin",
+    "X-Request-Id",
+    "X-Forwarded-For",
+    "Traceparent"
+  };
+
+  @Param({"1", "4", "8", "16"})
+  public int capturedHeaderCount;
+
+  // header names as sent by the client, like the names passed by a bulk getter
+  private final Map<String, List<String>> headers = new LinkedHashMap<>();
+  // lowercase header names, like the case-insensitive lookup of a server
+  private final Map<String, List<String>> headersByLowercaseName = new LinkedHashMap<>();
+  private CapturedHttpHeaders capturedHeaders;
+
+  @Setup
+  public void setup() {
+    List<String> capturedNames = new ArrayList<>();
+    for (int i = 0; i < REQUEST_HEADER_NAMES.length; i++) {
+      String name = REQUEST_HEADER_NAMES[i];
+      List<String> values = Collections.singletonList("value-" + i);
+      headers.put(name, values);
+      headersByLowercaseName.put(name.toLowerCase(Locale.ROOT), values);
+      // capture every other header so that half of the captured headers are missing
+      if (capturedNames.size() < capturedHeaderCount) {
+        capturedNames.add(i % 2 == 0 ? name : "X-Missing-" + i);
+      }
+    }
+    capturedHeaders = CapturedHttpHeaders.request(capturedNames);
+  }
+
+  @Benchmark
+  public Attributes lookUpByName() {
+    AttributesBuilder attributes = Attributes.builder();
+    for (int i = 0; i < capturedHeaders.size(); i++) {
+      List<String> values = headersByLowercaseName.get(capturedHeaders.getName(i));
+      if (values != null) {
+        internalSet(attributes, capturedHeaders.getKey(i), values);
+      }
+    }
+    return attributes.build();
+  }
+
+  @Benchmark
+  public Attributes collectInSinglePass() {
+    AttributesBuilder attributes = Attributes.builder();
+    CapturedHttpHeaders.Collector collector = capturedHeaders.newCollector();
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      for (String value : header.getValue()) {
+        collector.accept(header.getKey(), value);
+      }
+    }
+    collector.setAttributes(attributes);
+    return attributes.build();
+  }
+}
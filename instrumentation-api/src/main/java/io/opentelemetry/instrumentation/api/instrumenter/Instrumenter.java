@@ -6,8 +6,10 @@
 package io.opentelemetry.instrumentation.api.instrumenter;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
@@ -82,6 +84,7 @@ public class Instrumenter<REQUEST, RESPONSE> {
       operationListenerAttributesExtractors;
   private final ErrorCauseExtractor errorCauseExtractor;
   private final boolean propagateOperationListenersToOnEnd;
+  private final boolean skipUnsampledSpanAttributes;
   private final boolean enabled;
   private final SpanSuppressor spanSuppressor;
 
@@ -101,6 +104,7 @@ public class Instrumenter<REQUEST, RESPONSE> {
         builder.operationListenerAttributesExtractors.toArray(new AttributesExtractor[0]);
     this.errorCauseExtractor = builder.errorCauseExtractor;
     this.propagateOperationListenersToOnEnd = builder.propagateOperationListenersToOnEnd;
+    this.skipUnsampledSpanAttributes = builder.skipUnsampledSpanAttributes;
     this.enabled = builder.enabled;
     this.spanSuppressor = builder.buildSpanSuppressor();
   }
@@ -186,14 +190,27 @@ public class Instrumenter<REQUEST, RESPONSE> {
       spanBuilder.setStartTimestamp(startTime);
     }
 
-    SpanLinksBuilder spanLinksBuilder = new SpanLinksBuilderImpl(spanBuilder);
-    for (SpanLinksExtractor<? super REQUEST> spanLinksExtractor : spanLinksExtractors) {
-      spanLinksExtractor.extract(spanLinksBuilder, parentContext, request);
+    boolean recordSpan = !skipUnsampledSpanAttributes || mayBeSampled(parentContext);
+
+    if (recordSpan && spanLinksExtractors.length != 0) {
+      SpanLinksBuilder spanLinksBuilder = new SpanLinksBuilderImpl(spanBuilder);
+      for (SpanLinksExtractor<? super REQUEST> spanLinksExtractor : spanLinksExtractors) {
+        spanLinksExtractor.extract(spanLinksBuilder, parentContext, request);
+      }
     }
 
-    UnsafeAttributes attributes = new UnsafeAttributes();
-    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
-      extractor.onStart(attributes, parentContext, request);
+    Attributes attributes;
+    // context customizers and operation listeners receive the start attributes even when the span
+    // is not going to be sampled
+    if (recordSpan || contextCustomizers.length != 0 || operationListeners.length != 0) {
+      UnsafeAttributes startAttributes = new UnsafeAttributes();
+      for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor :
+          attributesExtractors) {
+        extractor.onStart(startAttributes, parentContext, request);
+      }
+      attributes = startAttributes;
+    } else {
+      attributes = Attributes.empty();
     }
 
     Context context = parentContext;
@@ -207,7 +224,9 @@ public class Instrumenter<REQUEST, RESPONSE> {
     boolean localRoot = LocalRootSpan.isLocalRoot(parentContext);
     boolean hasLocalRoot = LocalRootSpan.fromContextOrNull(context) != null;
 
-    spanBuilder.setAllAttributes(attributes);
+    if (recordSpan) {
+      spanBuilder.setAllAttributes(attributes);
+    }
     Span span = spanBuilder.setParent(context).startSpan();
     context = context.with(span);
 
@@ -256,22 +275,35 @@ public class Instrumenter<REQUEST, RESPONSE> {
       @Nullable Throwable error,
       @Nullable Instant endTime) {
     Span span = Span.fromContext(context);
+    boolean recordSpan = !skipUnsampledSpanAttributes || span.isRecording();
 
     if (error != null) {
       error = errorCauseExtractor.extract(error);
-      span.recordException(error);
-    }
-
-    UnsafeAttributes attributes = new UnsafeAttributes();
-    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
-      extractor.onEnd(attributes, context, request, response, error);
+      if (recordSpan) {
+        span.recordException(error);
+      }
     }
-    span.setAllAttributes(attributes);
 
     OperationListener[] operationListeners = context.get(START_OPERATION_LISTENERS);
     if (operationListeners == null) {
       operationListeners = this.operationListeners;
     }
+
+    Attributes attributes;
+    if (recordSpan || operationListeners.length != 0) {
+      UnsafeAttributes endAttributes = new UnsafeAttributes();
+      for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor :
+          attributesExtractors) {
+        extractor.onEnd(endAttributes, context, request, response, error);
+      }
+      if (recordSpan) {
+        span.setAllAttributes(endAttributes);
+      }
+      attributes = endAttributes;
+    } else {
+      attributes = Attributes.empty();
+    }
+
     if (operationListeners.length != 0) {
       if (operationListenerAttributesExtractors.length != 0) {
         UnsafeAttributes operationAttributes = new UnsafeAttributes();
@@ -289,8 +321,10 @@ public class Instrumenter<REQUEST, RESPONSE> {
       }
     }
 
-    SpanStatusBuilder spanStatusBuilder = new SpanStatusBuilderImpl(span);
-    spanStatusExtractor.extract(spanStatusBuilder, request, response, error);
+    if (recordSpan) {
+      SpanStatusBuilder spanStatusBuilder = new SpanStatusBuilderImpl(span);
+      spanStatusExtractor.extract(spanStatusBuilder, request, response, error);
+    }
 
     if (endTime != null) {
       span.end(endTime);
@@ -299,6 +333,17 @@ public class Instrumenter<REQUEST, RESPONSE> {
     }
   }
 
+  /**
+   * Returns {@code false} when the parent span is known not to be sampled. Only used when the
+   * experimental "skip unsampled span attributes" mode is enabled, which assumes that a parent-based
+   * sampler is configured: a child of an unsampled parent will be dropped by such a sampler, so
+   * there is no point in computing span-only data (links, attributes) for it.
+   */
+  private static boolean mayBeSampled(Context parentContext) {
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    return !parentSpanContext.isValid() || parentSpanContext.isSampled();
+  }
+
   private static long getNanos(@Nullable Instant time) {
     if (time == null) {
       return System.nanoTime();
@@ -54,6 +54,10 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
           ConfigPropertiesUtil.getString(
               "otel.instrumentation.experimental.span-suppression-strategy"));
 
+  private static final boolean skipUnsampledSpanAttributesDefault =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.experimental.skip-unsampled-span-attributes", false);
+
   final OpenTelemetry openTelemetry;
   final String instrumentationName;
   SpanNameExtractor<? super REQUEST> spanNameExtractor;
@@ -74,6 +78,7 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
       SpanStatusExtractor.getDefault();
   ErrorCauseExtractor errorCauseExtractor = ErrorCauseExtractor.getDefault();
   boolean propagateOperationListenersToOnEnd = false;
+  boolean skipUnsampledSpanAttributes = skipUnsampledSpanAttributesDefault;
   boolean enabled = true;
 
   static {
@@ -82,6 +87,9 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
             builder.operationListenerAttributesExtractors.add(
                 requireNonNull(
                     operationListenerAttributesExtractor, "operationListenerAttributesExtractor")));
+    Experimental.internalSetSkipUnsampledSpanAttributes(
+        (builder, skipUnsampledSpanAttributes) ->
+            builder.skipUnsampledSpanAttributes = skipUnsampledSpanAttributes);
   }
 
   InstrumenterBuilder(
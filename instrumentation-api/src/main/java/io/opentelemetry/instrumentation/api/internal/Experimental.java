@@ -32,6 +32,10 @@ public final class Experimental {
   private static volatile BiConsumer<InstrumenterBuilder<?, ?>, AttributesExtractor<?, ?>>
       operationListenerAttributesExtractorAdder;
 
+  @Nullable
+  private static volatile BiConsumer<InstrumenterBuilder<?, ?>, Boolean>
+      skipUnsampledSpanAttributesSetter;
+
   private Experimental() {}
 
   public static void setRedactQueryParameters(
@@ -85,4 +89,25 @@ public final class Experimental {
     Experimental.operationListenerAttributesExtractorAdder =
         (BiConsumer) operationListenerAttributesExtractorAdder;
   }
+
+  /**
+   * Sets whether the {@link InstrumenterBuilder} should skip extracting span links and span-only
+   * attributes when the parent span is not sampled. All attributes are still extracted when there
+   * are {@link OperationListener}s (e.g. metrics) or context customizers, because they receive the
+   * same attributes as the span; for HTTP server instrumenters, which have both, only the span
+   * links, the span status and setting the attributes on the span are skipped. This assumes that a
+   * parent-based sampler is used; samplers that make decisions based on span attributes may behave
+   * differently when this is enabled.
+   */
+  public static void setSkipUnsampledSpanAttributes(
+      InstrumenterBuilder<?, ?> builder, boolean skipUnsampledSpanAttributes) {
+    if (skipUnsampledSpanAttributesSetter != null) {
+      skipUnsampledSpanAttributesSetter.accept(builder, skipUnsampledSpanAttributes);
+    }
+  }
+
+  public static void internalSetSkipUnsampledSpanAttributes(
+      BiConsumer<InstrumenterBuilder<?, ?>, Boolean> skipUnsampledSpanAttributesSetter) {
+    Experimental.skipUnsampledSpanAttributesSetter = skipUnsampledSpanAttributesSetter;
+  }
 }
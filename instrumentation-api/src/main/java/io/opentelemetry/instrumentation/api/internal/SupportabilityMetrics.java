@@ -124,6 +124,9 @@ public final class SupportabilityMetrics {
   public static final class CounterNames {
     public static final String SQL_STATEMENT_SANITIZER_CACHE_MISS =
         "SqlStatementSanitizer cache miss";
+    // followed by the name of the VirtualField implementation, which names the key and field type
+    public static final String VIRTUAL_FIELD_FALLBACK_MAP_ACCESS =
+        "VirtualField fallback map access";
 
     private CounterNames() {}
   }
@@ -6,7 +6,10 @@
 package io.opentelemetry.instrumentation.api.internal.cache;
 
 import io.opentelemetry.instrumentation.api.internal.cache.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import io.opentelemetry.instrumentation.api.internal.cache.concurrentlinkedhashmap.EntryWeigher;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
 import javax.annotation.Nullable;
 
 /**
@@ -27,6 +30,18 @@ public interface Cache<K, V> {
     return new WeakLockFreeCache<>();
   }
 
+  /**
+   * Returns new unbounded cache that is optimized for access from many threads. The entries are
+   * spread over independently locked stripes that clean up entries with collected keys when they
+   * are accessed, instead of sharing one reference queue between all entries.
+   *
+   * <p>Keys are referenced weakly and compared using identity comparison, not {@link
+   * Object#equals(Object)}.
+   */
+  static <K, V> Cache<K, V> stripedWeak() {
+    return new StripedWeakCache<>();
+  }
+
   /**
    * Returns new bounded cache.
    *
@@ -38,6 +53,40 @@ public interface Cache<K, V> {
     return new MapBackedCache<>(map);
   }
 
+  /**
+   * Returns new bounded cache that uses frequency based admission (W-TinyLFU) instead of plain LRU
+   * eviction. A new entry only displaces an existing one when it was requested more often, which
+   * keeps hot entries cached when many keys are requested only once. Prefer this over {@link
+   * #bounded(int)} for caches whose keys are spread over a long tail, e.g. class names.
+   *
+   * <p>Both keys and values are strongly referenced.
+   */
+  static <K, V> Cache<K, V> tinyLfu(int capacity) {
+    return new TinyLfuCache<>(capacity);
+  }
+
+  /**
+   * Returns new bounded cache whose capacity is measured by the total weight of its entries, as
+   * computed by the {@code weigher}, instead of by the number of entries. Every entry must weigh at
+   * least one unit. The {@code evictionListener} is notified about each entry that is evicted
+   * because the cache exceeded its {@code maximumWeight}.
+   *
+   * <p>Both keys and values are strongly referenced.
+   */
+  static <K, V> Cache<K, V> weighted(
+      long maximumWeight,
+      ToIntBiFunction<? super K, ? super V> weigher,
+      BiConsumer<? super K, ? super V> evictionListener) {
+    EntryWeigher<K, V> entryWeigher = weigher::applyAsInt;
+    ConcurrentLinkedHashMap<K, V> map =
+        new ConcurrentLinkedHashMap.Builder<K, V>()
+            .maximumWeightedCapacity(maximumWeight)
+            .weigher(entryWeigher)
+            .listener(evictionListener::accept)
+            .build();
+    return new MapBackedCache<>(map);
+  }
+
   /**
    * Returns the cached value associated with the provided {@code key}. If no value is cached yet,
    * computes the value using {@code mappingFunction}, stores the result, and returns it.
@@ -0,0 +1,290 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Weak identity cache that spreads its entries over independently locked stripes. Every stripe is
+ * an open addressing hash table with its own reference queue, so threads that use different keys
+ * neither contend on a lock nor on a shared reference queue. Reads don't lock. Entries whose keys
+ * were garbage collected are removed by the thread that accesses the stripe next, no background
+ * thread is needed.
+ */
+final class StripedWeakCache<K, V> implements Cache<K, V> {
+
+  private static final int MAX_STRIPES = 16;
+  private static final int INITIAL_CAPACITY = 16;
+  // marks the slot of a removed entry, lookups have to continue probing past it
+  private static final Entry<?, ?> REMOVED = new Entry<>(null, 0, null, null);
+
+  private final int stripeShift;
+  // stripes are created on first write, a cache that is never written to stays small
+  private final AtomicReferenceArray<Stripe<K, V>> stripes;
+
+  StripedWeakCache() {
+    int stripeCount =
+        Math.min(MAX_STRIPES, ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+    stripeShift = Integer.SIZE - Integer.numberOfTrailingZeros(stripeCount);
+    stripes = new AtomicReferenceArray<>(stripeCount);
+  }
+
+  private static int ceilingPowerOfTwo(int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+
+  private static int hash(Object key) {
+    // spread the identity hash code, the top bits select the stripe and the bottom bits the slot
+    return System.identityHashCode(key) * 0x9E3779B9;
+  }
+
+  @Nullable
+  private Stripe<K, V> stripe(int hash) {
+    // shifting an int by 32 doesn't change it, a single stripe has index 0
+    return stripes.get(stripeShift == Integer.SIZE ? 0 : hash >>> stripeShift);
+  }
+
+  private Stripe<K, V> stripeForWrite(int hash) {
+    int index = stripeShift == Integer.SIZE ? 0 : hash >>> stripeShift;
+    Stripe<K, V> stripe = stripes.get(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new Stripe<>());
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    // like the other weak cache the value is computed without holding a lock, when two threads
+    // race the value of the first one is kept
+    value = mappingFunction.apply(key);
+    int hash = hash(key);
+    return stripeForWrite(hash).put(key, hash, value, /* onlyIfAbsent= */ true);
+  }
+
+  @Override
+  @Nullable
+  public V get(K key) {
+    int hash = hash(key);
+    Stripe<K, V> stripe = stripe(hash);
+    return stripe == null ? null : stripe.get(key, hash);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    int hash = hash(key);
+    stripeForWrite(hash).put(key, hash, value, /* onlyIfAbsent= */ false);
+  }
+
+  @Override
+  public void remove(K key) {
+    int hash = hash(key);
+    Stripe<K, V> stripe = stripe(hash);
+    if (stripe != null) {
+      stripe.remove(key, hash);
+    }
+  }
+
+  // Visible for testing
+  int size() {
+    int size = 0;
+    for (int i = 0; i < stripes.length(); i++) {
+      Stripe<K, V> stripe = stripes.get(i);
+      if (stripe != null) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  private static final class Entry<K, V> extends WeakReference<K> {
+    final int hash;
+    volatile V value;
+
+    Entry(K key, int hash, V value, @Nullable ReferenceQueue<? super K> queue) {
+      super(key, queue);
+      this.hash = hash;
+      this.value = value;
+    }
+  }
+
+  private static final class Stripe<K, V> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+    // replaced as a whole when resized, slots are only modified while holding the lock
+    private volatile AtomicReferenceArray<Entry<K, V>> table =
+        new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    // guarded by the lock
+    private int size;
+    private int removed;
+
+    @Nullable
+    V get(K key, int hash) {
+      expungeIfNeeded();
+      AtomicReferenceArray<Entry<K, V>> table = this.table;
+      int mask = table.length() - 1;
+      // the table always has empty slots, so the loop terminates
+      for (int i = hash & mask; ; i = (i + 1) & mask) {
+        Entry<K, V> entry = table.get(i);
+        if (entry == null) {
+          return null;
+        }
+        if (entry.hash == hash && entry.get() == key) {
+          return entry.value;
+        }
+      }
+    }
+
+    V put(K key, int hash, V value, boolean onlyIfAbsent) {
+      lock.lock();
+      try {
+        expungeStaleEntries();
+        AtomicReferenceArray<Entry<K, V>> table = this.table;
+        int mask = table.length() - 1;
+        int freeSlot = -1;
+        int i = hash & mask;
+        for (Entry<K, V> entry = table.get(i); entry != null; entry = table.get(i)) {
+          if (entry == REMOVED) {
+            if (freeSlot == -1) {
+              freeSlot = i;
+            }
+          } else if (entry.hash == hash && entry.get() == key) {
+            V existing = entry.value;
+            if (!onlyIfAbsent) {
+              entry.value = value;
+            }
+            return onlyIfAbsent ? existing : value;
+          }
+          i = (i + 1) & mask;
+        }
+        if (freeSlot == -1) {
+          freeSlot = i;
+        } else {
+          removed--;
+        }
+        table.set(freeSlot, new Entry<>(key, hash, value, queue));
+        size++;
+        resizeIfNeeded();
+        return value;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void remove(K key, int hash) {
+      lock.lock();
+      try {
+        expungeStaleEntries();
+        AtomicReferenceArray<Entry<K, V>> table = this.table;
+        int mask = table.length() - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+          Entry<K, V> entry = table.get(i);
+          if (entry == null) {
+            return;
+          }
+          if (entry.hash == hash && entry.get() == key) {
+            removeAt(table, i);
+            return;
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    int size() {
+      lock.lock();
+      try {
+        expungeStaleEntries();
+        return size;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void expungeIfNeeded() {
+      Reference<? extends K> reference = queue.poll();
+      if (reference != null) {
+        lock.lock();
+        try {
+          expunge(reference);
+          expungeStaleEntries();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+
+    private void expungeStaleEntries() {
+      for (Reference<? extends K> reference = queue.poll();
+          reference != null;
+          reference = queue.poll()) {
+        expunge(reference);
+      }
+    }
+
+    private void expunge(Reference<? extends K> reference) {
+      Entry<?, ?> stale = (Entry<?, ?>) reference;
+      AtomicReferenceArray<Entry<K, V>> table = this.table;
+      int mask = table.length() - 1;
+      for (int i = stale.hash & mask; ; i = (i + 1) & mask) {
+        Entry<K, V> entry = table.get(i);
+        if (entry == null) {
+          // already removed
+          return;
+        }
+        if (entry == stale) {
+          removeAt(table, i);
+          return;
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked") // REMOVED doesn't hold a key or a value
+    private void removeAt(AtomicReferenceArray<Entry<K, V>> table, int index) {
+      table.set(index, (Entry<K, V>) REMOVED);
+      size--;
+      removed++;
+    }
+
+    private void resizeIfNeeded() {
+      AtomicReferenceArray<Entry<K, V>> table = this.table;
+      // keep at least a quarter of the slots empty so that probe sequences stay short
+      if ((size + removed) * 4 < table.length() * 3) {
+        return;
+      }
+      int capacity = size * 2 < table.length() ? table.length() : table.length() * 2;
+      AtomicReferenceArray<Entry<K, V>> newTable = new AtomicReferenceArray<>(capacity);
+      int mask = capacity - 1;
+      for (int j = 0; j < table.length(); j++) {
+        Entry<K, V> entry = table.get(j);
+        // entries whose keys were collected are still in the queue and are expunged later
+        if (entry != null && entry != REMOVED && entry.get() != null) {
+          int i = entry.hash & mask;
+          while (newTable.get(i) != null) {
+            i = (i + 1) & mask;
+          }
+          newTable.set(i, entry);
+        } else if (entry != null && entry != REMOVED) {
+          size--;
+        }
+      }
+      removed = 0;
+      this.table = newTable;
+    }
+  }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache that uses the W-TinyLFU policy: new entries are placed in a small LRU admission
+ * window, and when they fall out of it they are only admitted to the main space (a segmented LRU
+ * with probation and protected segments) if they were accessed more often than the entry that
+ * would have to be evicted to make room for them. Unlike a plain LRU this keeps frequently used
+ * entries in the cache when a lot of keys are accessed only once (e.g. a scan).
+ *
+ * <p>Reads never block: the entries are kept in a {@link ConcurrentHashMap} and each read is
+ * recorded in one of several lossy read buffers, picked by the thread id. The recorded reads are
+ * applied to the access order and frequency under the eviction lock, before each write and when a
+ * read buffer fills up (in that case only if the lock is not held by another thread). Writes are
+ * serialized by the eviction lock.
+ */
+final class TinyLfuCache<K, V> implements Cache<K, V> {
+
+  private static final int NUMBER_OF_READ_BUFFERS =
+      FrequencySketch.ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+  private static final int READ_BUFFERS_MASK = NUMBER_OF_READ_BUFFERS - 1;
+  // number of recorded reads after which a read buffer is drained
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = 16;
+  private static final int READ_BUFFER_SIZE = 2 * READ_BUFFER_DRAIN_THRESHOLD;
+  private static final int READ_BUFFER_INDEX_MASK = READ_BUFFER_SIZE - 1;
+
+  private final ConcurrentMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final ReadBuffer<K, V>[] readBuffers;
+
+  // the fields below are guarded by the eviction lock
+  private final FrequencySketch sketch;
+  private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>(Segment.WINDOW);
+  private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>(Segment.PROBATION);
+  private final AccessOrderQueue<K, V> protectedQueue = new AccessOrderQueue<>(Segment.PROTECTED);
+
+  private final int maxWindow;
+  private final int maxMain;
+  private final int maxProtected;
+
+  TinyLfuCache(int capacity) {
+    int maximum = Math.max(capacity, 1);
+    maxWindow = Math.max(1, maximum / 100);
+    maxMain = maximum - maxWindow;
+    maxProtected = (int) (maxMain * 0.8);
+    sketch = new FrequencySketch(maximum);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ReadBuffer<K, V>[] buffers = new ReadBuffer[NUMBER_OF_READ_BUFFERS];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = new ReadBuffer<>();
+    }
+    readBuffers = buffers;
+  }
+
+  @Override
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    Node<K, V> node = data.get(key);
+    if (node != null) {
+      afterRead(node);
+      return node.value;
+    }
+    V value = mappingFunction.apply(key);
+    evictionLock.lock();
+    try {
+      drainReadBuffers();
+      // another thread could have added the value in the meantime
+      node = data.get(key);
+      if (node != null) {
+        onAccess(node);
+        return node.value;
+      }
+      addNode(new Node<>(key, value));
+      return value;
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Nullable
+  @Override
+  public V get(K key) {
+    Node<K, V> node = data.get(key);
+    if (node == null) {
+      return null;
+    }
+    afterRead(node);
+    return node.value;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    evictionLock.lock();
+    try {
+      drainReadBuffers();
+      Node<K, V> node = data.get(key);
+      if (node != null) {
+        node.value = value;
+        onAccess(node);
+        return;
+      }
+      addNode(new Node<>(key, value));
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void remove(K key) {
+    evictionLock.lock();
+    try {
+      drainReadBuffers();
+      Node<K, V> node = data.remove(key);
+      if (node != null) {
+        queueOf(node).unlink(node);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  // Visible for tests
+  int size() {
+    return data.size();
+  }
+
+  private void afterRead(Node<K, V> node) {
+    ReadBuffer<K, V> buffer = readBuffers[readBufferIndex()];
+    // access order and frequency are best effort: if another thread is currently updating the cache
+    // leave the reads in the buffer instead of waiting for it
+    if (buffer.record(node) && evictionLock.tryLock()) {
+      try {
+        drainReadBuffers();
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private static int readBufferIndex() {
+    // spreads the threads over the buffers so that reads of a hot entry don't contend on one buffer
+    return ((int) Thread.currentThread().getId()) & READ_BUFFERS_MASK;
+  }
+
+  // guarded by the eviction lock
+  private void drainReadBuffers() {
+    for (ReadBuffer<K, V> buffer : readBuffers) {
+      long writeCount = buffer.writeCount.get();
+      long drainedAtWriteCount = buffer.drainedAtWriteCount;
+      if (writeCount == drainedAtWriteCount) {
+        continue;
+      }
+      // start at the oldest slot to roughly keep the order in which the entries were read
+      for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+        int index = (int) ((drainedAtWriteCount + i) & READ_BUFFER_INDEX_MASK);
+        Node<K, V> node = buffer.slots.getAndSet(index, null);
+        // the node could have been evicted after it was read from the map
+        if (node != null && node.segment != Segment.REMOVED) {
+          onAccess(node);
+        }
+      }
+      buffer.drainedAtWriteCount = writeCount;
+    }
+  }
+
+  private void onAccess(Node<K, V> node) {
+    sketch.increment(node.key);
+    switch (node.segment) {
+      case WINDOW:
+        window.moveToBack(node);
+        break;
+      case PROBATION:
+        // a second hit while on probation promotes the entry to the protected segment
+        probation.unlink(node);
+        protectedQueue.addLast(node);
+        if (protectedQueue.size > maxProtected) {
+          Node<K, V> demoted = protectedQueue.removeFirst();
+          if (demoted != null) {
+            probation.addLast(demoted);
+          }
+        }
+        break;
+      case PROTECTED:
+        protectedQueue.moveToBack(node);
+        break;
+      case REMOVED:
+        break;
+    }
+  }
+
+  private void addNode(Node<K, V> node) {
+    data.put(node.key, node);
+    sketch.increment(node.key);
+    window.addLast(node);
+
+    while (window.size > maxWindow) {
+      Node<K, V> candidate = window.removeFirst();
+      if (candidate == null) {
+        break;
+      }
+      if (probation.size + protectedQueue.size < maxMain) {
+        probation.addLast(candidate);
+        continue;
+      }
+      Node<K, V> victim = probation.first != null ? probation.first : protectedQueue.first;
+      if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+        evict(victim);
+        probation.addLast(candidate);
+      } else {
+        candidate.segment = Segment.REMOVED;
+        data.remove(candidate.key, candidate);
+      }
+    }
+  }
+
+  private void evict(Node<K, V> node) {
+    queueOf(node).unlink(node);
+    data.remove(node.key, node);
+  }
+
+  private AccessOrderQueue<K, V> queueOf(Node<K, V> node) {
+    switch (node.segment) {
+      case WINDOW:
+        return window;
+      case PROBATION:
+        return probation;
+      case PROTECTED:
+        return protectedQueue;
+      case REMOVED:
+        break;
+    }
+    throw new IllegalStateException("Node was already removed");
+  }
+
+  private enum Segment {
+    WINDOW,
+    PROBATION,
+    PROTECTED,
+    REMOVED
+  }
+
+  private static final class Node<K, V> {
+    final K key;
+    volatile V value;
+
+    // guarded by the eviction lock
+    Segment segment = Segment.REMOVED;
+    @Nullable Node<K, V> prev;
+    @Nullable Node<K, V> next;
+
+    Node(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /**
+   * A ring buffer of reads that weren't applied to the access order and frequency yet. The slot is
+   * chosen in a racy fashion, so concurrent reads can overwrite one another; when the buffer is not
+   * drained in time the oldest reads are overwritten as well.
+   */
+  private static final class ReadBuffer<K, V> {
+    final AtomicLong writeCount = new AtomicLong();
+    final AtomicReferenceArray<Node<K, V>> slots = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    // only written while holding the eviction lock
+    volatile long drainedAtWriteCount;
+
+    /** Records a read and returns whether the buffer should be drained. */
+    boolean record(Node<K, V> node) {
+      long count = writeCount.get();
+      writeCount.lazySet(count + 1);
+      slots.lazySet((int) (count & READ_BUFFER_INDEX_MASK), node);
+      return count + 1 - drainedAtWriteCount >= READ_BUFFER_DRAIN_THRESHOLD;
+    }
+  }
+
+  /** An intrusive doubly linked list of nodes, ordered from least to most recently used. */
+  private static final class AccessOrderQueue<K, V> {
+    private final Segment segment;
+    @Nullable Node<K, V> first;
+    @Nullable Node<K, V> last;
+    int size;
+
+    AccessOrderQueue(Segment segment) {
+      this.segment = segment;
+    }
+
+    void addLast(Node<K, V> node) {
+      node.segment = segment;
+      node.prev = last;
+      node.next = null;
+      if (last == null) {
+        first = node;
+      } else {
+        last.next = node;
+      }
+      last = node;
+      size++;
+    }
+
+    @Nullable
+    Node<K, V> removeFirst() {
+      Node<K, V> node = first;
+      if (node != null) {
+        unlink(node);
+      }
+      return node;
+    }
+
+    void moveToBack(Node<K, V> node) {
+      if (node != last) {
+        unlink(node);
+        addLast(node);
+      }
+    }
+
+    void unlink(Node<K, V> node) {
+      Node<K, V> prev = node.prev;
+      Node<K, V> next = node.next;
+      if (prev == null) {
+        first = next;
+      } else {
+        prev.next = next;
+      }
+      if (next == null) {
+        last = prev;
+      } else {
+        next.prev = prev;
+      }
+      node.prev = null;
+      node.next = null;
+      node.segment = Segment.REMOVED;
+      size--;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.semconv.http.internal.HttpHeadersBulkGetter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * The headers captured by one extractor, with their attribute keys created up front so that
+ * capturing many headers doesn't cost a key lookup for every header of every request.
+ */
+final class CapturedHttpHeaders {
+
+  // iterating over all headers of a request or response costs more than looking up a few of them
+  // by name: requests typically have 10 to 20 headers, and some servers create a String for each
+  // header name while iterating
+  private static final int MIN_BULK_CAPTURED_HEADERS = 8;
+
+  private static final CapturedHttpHeaders EMPTY =
+      new CapturedHttpHeaders(new String[0], newKeyArray(0));
+
+  static CapturedHttpHeaders request(List<String> names) {
+    return create("request", names);
+  }
+
+  static CapturedHttpHeaders response(List<String> names) {
+    return create("response", names);
+  }
+
+  private static CapturedHttpHeaders create(String type, List<String> names) {
+    if (names.isEmpty()) {
+      return EMPTY;
+    }
+    Set<String> lowercaseNames = new LinkedHashSet<>();
+    for (String name : names) {
+      lowercaseNames.add(name.toLowerCase(Locale.ROOT));
+    }
+    String[] headerNames = lowercaseNames.toArray(new String[0]);
+    AttributeKey<List<String>>[] keys = newKeyArray(headerNames.length);
+    for (int i = 0; i < headerNames.length; i++) {
+      keys[i] = AttributeKey.stringArrayKey("http." + type + ".header." + headerNames[i]);
+    }
+    return new CapturedHttpHeaders(headerNames, keys);
+  }
+
+  @SuppressWarnings("unchecked") // generic array creation
+  private static AttributeKey<List<String>>[] newKeyArray(int length) {
+    return (AttributeKey<List<String>>[]) new AttributeKey<?>[length];
+  }
+
+  // lowercase header names and the attribute keys for them, at the same positions
+  private final String[] names;
+  private final AttributeKey<List<String>>[] keys;
+  // name length -> positions of the names with this length, or null if there are none
+  private final int[][] indexesByLength;
+
+  private CapturedHttpHeaders(String[] names, AttributeKey<List<String>>[] keys) {
+    this.names = names;
+    this.keys = keys;
+    int maxLength = 0;
+    for (String name : names) {
+      maxLength = Math.max(maxLength, name.length());
+    }
+    indexesByLength = new int[maxLength + 1][];
+    for (int i = 0; i < names.length; i++) {
+      int length = names[i].length();
+      int[] indexes = indexesByLength[length];
+      indexes = indexes == null ? new int[1] : Arrays.copyOf(indexes, indexes.length + 1);
+      indexes[indexes.length - 1] = i;
+      indexesByLength[length] = indexes;
+    }
+  }
+
+  boolean isEmpty() {
+    return names.length == 0;
+  }
+
+  int size() {
+    return names.length;
+  }
+
+  /**
+   * Returns whether the headers should be collected by iterating over all headers instead of
+   * looking up each captured header by name.
+   */
+  boolean preferBulkCapture() {
+    return names.length >= MIN_BULK_CAPTURED_HEADERS;
+  }
+
+  String getName(int index) {
+    return names[index];
+  }
+
+  AttributeKey<List<String>> getKey(int index) {
+    return keys[index];
+  }
+
+  Collector newCollector() {
+    return new Collector();
+  }
+
+  // called for every header of a request, so it doesn't lowercase or hash the name
+  private int indexOf(String name) {
+    int length = name.length();
+    if (length >= indexesByLength.length || indexesByLength[length] == null) {
+      return -1;
+    }
+    for (int index : indexesByLength[length]) {
+      if (names[index].regionMatches(true, 0, name, 0, length)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /** Collects the values of the captured headers of one request or response. */
+  final class Collector implements HttpHeadersBulkGetter.HeaderConsumer {
+
+    @Nullable private List<String>[] values;
+
+    private Collector() {}
+
+    @Override
+    public boolean isCaptured(String name) {
+      return indexOf(name) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // generic array creation
+    public void accept(String name, String value) {
+      int index = indexOf(name);
+      if (index < 0) {
+        return;
+      }
+      if (values == null) {
+        values = (List<String>[]) new List<?>[names.length];
+      }
+      List<String> headerValues = values[index];
+      if (headerValues == null) {
+        headerValues = new ArrayList<>(1);
+        values[index] = headerValues;
+      }
+      headerValues.add(value);
+    }
+
+    void setAttributes(AttributesBuilder attributes) {
+      if (values == null) {
+        return;
+      }
+      for (int i = 0; i < values.length; i++) {
+        if (values[i] != null) {
+          internalSet(attributes, keys[i], values[i]);
+        }
+      }
+    }
+  }
+}
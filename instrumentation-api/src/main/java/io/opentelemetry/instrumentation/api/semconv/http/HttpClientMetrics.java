@@ -78,7 +78,11 @@ public final class HttpClientMetrics implements OperationListener {
       return;
     }
 
-    Attributes attributes = state.startAttributes().toBuilder().putAll(endAttributes).build();
+    Attributes attributes =
+        HttpMetricsAttributes.merge(
+            state.startAttributes(),
+            endAttributes,
+            HttpMetricsAdvice.CLIENT_DURATION_ATTRIBUTE_KEYS);
 
     duration.record((endNanos - state.startTimeNanos()) / NANOS_PER_S, attributes, context);
   }
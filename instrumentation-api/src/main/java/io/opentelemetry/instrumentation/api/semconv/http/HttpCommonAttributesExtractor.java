@@ -7,13 +7,11 @@ package io.opentelemetry.instrumentation.api.semconv.http;
 
 import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
 import static io.opentelemetry.instrumentation.api.internal.HttpConstants._OTHER;
-import static io.opentelemetry.instrumentation.api.semconv.http.CapturedHttpHeadersUtil.lowercase;
-import static io.opentelemetry.instrumentation.api.semconv.http.CapturedHttpHeadersUtil.requestAttributeKey;
-import static io.opentelemetry.instrumentation.api.semconv.http.CapturedHttpHeadersUtil.responseAttributeKey;
 
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.internal.HttpHeadersBulkGetter;
 import io.opentelemetry.instrumentation.api.semconv.network.NetworkAttributesGetter;
 import io.opentelemetry.semconv.ErrorAttributes;
 import io.opentelemetry.semconv.HttpAttributes;
@@ -39,10 +37,12 @@ abstract class HttpCommonAttributesExtractor<
 
   final GETTER getter;
   private final HttpStatusCodeConverter statusCodeConverter;
-  private final String[] capturedRequestHeaders;
-  private final String[] capturedResponseHeaders;
+  private final CapturedHttpHeaders capturedRequestHeaders;
+  private final CapturedHttpHeaders capturedResponseHeaders;
+  @Nullable private final HttpHeadersBulkGetter<REQUEST, RESPONSE> bulkHeadersGetter;
   private final Set<String> knownMethods;
 
+  @SuppressWarnings("unchecked") // the getter handles the same request and response types
   HttpCommonAttributesExtractor(
       GETTER getter,
       HttpStatusCodeConverter statusCodeConverter,
@@ -51,8 +51,12 @@ abstract class HttpCommonAttributesExtractor<
       Set<String> knownMethods) {
     this.getter = getter;
     this.statusCodeConverter = statusCodeConverter;
-    this.capturedRequestHeaders = lowercase(capturedRequestHeaders);
-    this.capturedResponseHeaders = lowercase(capturedResponseHeaders);
+    this.capturedRequestHeaders = CapturedHttpHeaders.request(capturedRequestHeaders);
+    this.capturedResponseHeaders = CapturedHttpHeaders.response(capturedResponseHeaders);
+    this.bulkHeadersGetter =
+        getter instanceof HttpHeadersBulkGetter
+            ? (HttpHeadersBulkGetter<REQUEST, RESPONSE>) getter
+            : null;
     this.knownMethods = new HashSet<>(knownMethods);
   }
 
@@ -66,10 +70,41 @@ abstract class HttpCommonAttributesExtractor<
       internalSet(attributes, HttpAttributes.HTTP_REQUEST_METHOD_ORIGINAL, method);
     }
 
-    for (String name : capturedRequestHeaders) {
-      List<String> values = getter.getHttpRequestHeader(request, name);
+    if (!capturedRequestHeaders.isEmpty()) {
+      captureRequestHeaders(attributes, request);
+    }
+  }
+
+  private void captureRequestHeaders(AttributesBuilder attributes, REQUEST request) {
+    if (bulkHeadersGetter != null && capturedRequestHeaders.preferBulkCapture()) {
+      CapturedHttpHeaders.Collector collector = capturedRequestHeaders.newCollector();
+      if (bulkHeadersGetter.forEachHttpRequestHeader(request, collector)) {
+        collector.setAttributes(attributes);
+        return;
+      }
+    }
+    for (int i = 0; i < capturedRequestHeaders.size(); i++) {
+      List<String> values = getter.getHttpRequestHeader(request, capturedRequestHeaders.getName(i));
+      if (!values.isEmpty()) {
+        internalSet(attributes, capturedRequestHeaders.getKey(i), values);
+      }
+    }
+  }
+
+  private void captureResponseHeaders(
+      AttributesBuilder attributes, REQUEST request, RESPONSE response) {
+    if (bulkHeadersGetter != null && capturedResponseHeaders.preferBulkCapture()) {
+      CapturedHttpHeaders.Collector collector = capturedResponseHeaders.newCollector();
+      if (bulkHeadersGetter.forEachHttpResponseHeader(request, response, collector)) {
+        collector.setAttributes(attributes);
+        return;
+      }
+    }
+    for (int i = 0; i < capturedResponseHeaders.size(); i++) {
+      List<String> values =
+          getter.getHttpResponseHeader(request, response, capturedResponseHeaders.getName(i));
       if (!values.isEmpty()) {
-        internalSet(attributes, requestAttributeKey(name), values);
+        internalSet(attributes, capturedResponseHeaders.getKey(i), values);
       }
     }
   }
@@ -89,11 +124,8 @@ abstract class HttpCommonAttributesExtractor<
         internalSet(attributes, HttpAttributes.HTTP_RESPONSE_STATUS_CODE, (long) statusCode);
       }
 
-      for (String name : capturedResponseHeaders) {
-        List<String> values = getter.getHttpResponseHeader(request, response, name);
-        if (!values.isEmpty()) {
-          internalSet(attributes, responseAttributeKey(name), values);
-        }
+      if (!capturedResponseHeaders.isEmpty()) {
+        captureResponseHeaders(attributes, request, response);
       }
     }
 
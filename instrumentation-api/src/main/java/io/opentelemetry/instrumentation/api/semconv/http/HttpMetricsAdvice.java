@@ -28,22 +28,36 @@ final class HttpMetricsAdvice {
   // copied from UrlIncubatingAttributes
   private static final AttributeKey<String> URL_TEMPLATE = stringKey("url.template");
 
+  static final List<AttributeKey<?>> CLIENT_DURATION_ATTRIBUTE_KEYS =
+      unmodifiableList(
+          asList(
+              HttpAttributes.HTTP_REQUEST_METHOD,
+              HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
+              ErrorAttributes.ERROR_TYPE,
+              NetworkAttributes.NETWORK_PROTOCOL_NAME,
+              NetworkAttributes.NETWORK_PROTOCOL_VERSION,
+              ServerAttributes.SERVER_ADDRESS,
+              ServerAttributes.SERVER_PORT,
+              // we only add url.template when experimental http client telemetry is enabled
+              URL_TEMPLATE));
+
+  static final List<AttributeKey<?>> SERVER_DURATION_ATTRIBUTE_KEYS =
+      unmodifiableList(
+          asList(
+              HttpAttributes.HTTP_ROUTE,
+              HttpAttributes.HTTP_REQUEST_METHOD,
+              HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
+              ErrorAttributes.ERROR_TYPE,
+              NetworkAttributes.NETWORK_PROTOCOL_NAME,
+              NetworkAttributes.NETWORK_PROTOCOL_VERSION,
+              UrlAttributes.URL_SCHEME));
+
   static void applyClientDurationAdvice(DoubleHistogramBuilder builder) {
     if (!(builder instanceof ExtendedDoubleHistogramBuilder)) {
       return;
     }
     ((ExtendedDoubleHistogramBuilder) builder)
-        .setAttributesAdvice(
-            asList(
-                HttpAttributes.HTTP_REQUEST_METHOD,
-                HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
-                ErrorAttributes.ERROR_TYPE,
-                NetworkAttributes.NETWORK_PROTOCOL_NAME,
-                NetworkAttributes.NETWORK_PROTOCOL_VERSION,
-                ServerAttributes.SERVER_ADDRESS,
-                ServerAttributes.SERVER_PORT,
-                // we only add url.template when experimental http client telemetry is enabled
-                URL_TEMPLATE));
+        .setAttributesAdvice(CLIENT_DURATION_ATTRIBUTE_KEYS);
   }
 
   static void applyServerDurationAdvice(DoubleHistogramBuilder builder) {
@@ -51,15 +65,7 @@ final class HttpMetricsAdvice {
       return;
     }
     ((ExtendedDoubleHistogramBuilder) builder)
-        .setAttributesAdvice(
-            asList(
-                HttpAttributes.HTTP_ROUTE,
-                HttpAttributes.HTTP_REQUEST_METHOD,
-                HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
-                ErrorAttributes.ERROR_TYPE,
-                NetworkAttributes.NETWORK_PROTOCOL_NAME,
-                NetworkAttributes.NETWORK_PROTOCOL_VERSION,
-                UrlAttributes.URL_SCHEME));
+        .setAttributesAdvice(SERVER_DURATION_ATTRIBUTE_KEYS);
   }
 
   private HttpMetricsAdvice() {}
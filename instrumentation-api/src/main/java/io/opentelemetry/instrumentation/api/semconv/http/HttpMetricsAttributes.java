@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/** Merges the start and end attributes of an HTTP operation for recording metrics. */
+final class HttpMetricsAttributes {
+
+  private static final boolean ADVISED_ATTRIBUTES_ONLY =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.experimental.http-metrics-advised-attributes-only", false);
+
+  static Attributes merge(
+      Attributes startAttributes, Attributes endAttributes, List<AttributeKey<?>> advisedKeys) {
+    return merge(startAttributes, endAttributes, advisedKeys, ADVISED_ATTRIBUTES_ONLY);
+  }
+
+  // visible for testing
+  static Attributes merge(
+      Attributes startAttributes,
+      Attributes endAttributes,
+      List<AttributeKey<?>> advisedKeys,
+      boolean advisedAttributesOnly) {
+    if (!advisedAttributesOnly) {
+      return startAttributes.toBuilder().putAll(endAttributes).build();
+    }
+
+    // the SDK drops all attributes that are not present in the attributes advice anyway (unless a
+    // view overrides it), so there's no point in copying all the start and end attributes first;
+    // look up just the advised keys instead, end attributes take precedence over start attributes
+    AttributesBuilder builder = Attributes.builder();
+    for (int i = 0; i < advisedKeys.size(); i++) {
+      copy(advisedKeys.get(i), startAttributes, endAttributes, builder);
+    }
+    return builder.build();
+  }
+
+  private static <T> void copy(
+      AttributeKey<T> key,
+      Attributes startAttributes,
+      Attributes endAttributes,
+      AttributesBuilder builder) {
+    T value = getValue(key, startAttributes, endAttributes);
+    if (value != null) {
+      builder.put(key, value);
+    }
+  }
+
+  @Nullable
+  private static <T> T getValue(
+      AttributeKey<T> key, Attributes startAttributes, Attributes endAttributes) {
+    T value = endAttributes.get(key);
+    return value != null ? value : startAttributes.get(key);
+  }
+
+  private HttpMetricsAttributes() {}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http.internal;
+
+import io.opentelemetry.instrumentation.api.semconv.http.HttpCommonAttributesGetter;
+
+/**
+ * An optional interface for {@link HttpCommonAttributesGetter} implementations that can iterate
+ * over all headers of a request or response. When the getter implements it and many headers are
+ * captured, the captured headers are collected in a single pass over the headers instead of being
+ * looked up one name at a time.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface HttpHeadersBulkGetter<REQUEST, RESPONSE> {
+
+  /**
+   * Passes all request headers to the {@code consumer}. Returns false, without passing any header,
+   * when the headers of this request can't be iterated and have to be looked up by name instead.
+   */
+  boolean forEachHttpRequestHeader(REQUEST request, HeaderConsumer consumer);
+
+  /**
+   * Passes all response headers to the {@code consumer}. Returns false, without passing any
+   * header, when the headers of this response can't be iterated and have to be looked up by name
+   * instead.
+   */
+  boolean forEachHttpResponseHeader(REQUEST request, RESPONSE response, HeaderConsumer consumer);
+
+  /** Receives the headers passed by a {@link HttpHeadersBulkGetter}. */
+  interface HeaderConsumer {
+
+    /**
+     * Returns whether the header is captured. Getters that have to look up the values of a header
+     * separately can use it to skip the headers that aren't captured.
+     */
+    boolean isCaptured(String name);
+
+    /**
+     * Receives one value of a header, headers with several values are passed once for each value.
+     * The name is matched case-insensitively, values of headers that aren't captured are ignored.
+     */
+    void accept(String name, String value);
+  }
+}
@@ -9,6 +9,9 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.asser
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.opentelemetry.api.common.AttributeKey;
@@ -767,6 +770,145 @@ class InstrumenterTest {
     assertThatSpanKeyWasStored(SpanKey.HTTP_CLIENT, context);
   }
 
+  @Test
+  void skipUnsampledSpanAttributes() {
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> builder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(mockNetClientAttributes);
+    Experimental.setSkipUnsampledSpanAttributes(builder, true);
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        builder.buildInstrumenter();
+
+    Context parentContext =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.createFromRemoteParent(
+                        "ff01020304050600ff0a0b0c0d0e0f00",
+                        "090a0b0c0d0e0f00",
+                        TraceFlags.getDefault(),
+                        TraceState.getDefault())));
+
+    Context context = instrumenter.start(parentContext, REQUEST);
+    assertThat(Span.fromContext(context).isRecording()).isFalse();
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    verify(mockNetClientAttributes, never()).onStart(any(), any(), any());
+    verify(mockNetClientAttributes, never()).onEnd(any(), any(), any(), any(), any());
+    otelTesting.assertTraces().isEmpty();
+  }
+
+  @Test
+  void skipUnsampledSpanAttributes_operationListener() {
+    AtomicReference<Attributes> startAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> endAttributes = new AtomicReference<>();
+
+    OperationListener operationListener =
+        new OperationListener() {
+          @Override
+          public Context onStart(Context context, Attributes attributes, long startNanos) {
+            startAttributes.set(attributes);
+            return context;
+          }
+
+          @Override
+          public void onEnd(Context context, Attributes attributes, long endNanos) {
+            endAttributes.set(attributes);
+          }
+        };
+
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> builder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new AttributesExtractor1())
+            .addSpanLinksExtractor(new LinksExtractor())
+            .addOperationListener(operationListener);
+    Experimental.setSkipUnsampledSpanAttributes(builder, true);
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        builder.buildInstrumenter();
+
+    Context parentContext =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.createFromRemoteParent(
+                        "ff01020304050600ff0a0b0c0d0e0f00",
+                        "090a0b0c0d0e0f00",
+                        TraceFlags.getDefault(),
+                        TraceState.getDefault())));
+
+    Context context = instrumenter.start(parentContext, REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(startAttributes.get())
+        .hasSize(2)
+        .containsEntry("req1", "req1_value")
+        .containsEntry("req2", "req2_value");
+    assertThat(endAttributes.get())
+        .hasSize(2)
+        .containsEntry("resp1", "resp1_value")
+        .containsEntry("resp2", "resp2_value");
+    otelTesting.assertTraces().isEmpty();
+  }
+
+  @Test
+  void skipUnsampledSpanAttributes_serverLikeInstrumenter() {
+    // http server instrumenters have both a metrics listener and a route context customizer, the
+    // attributes are extracted for them but the span-only work is still skipped
+    AtomicReference<Attributes> customizerAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> listenerEndAttributes = new AtomicReference<>();
+    AtomicReference<Boolean> linksExtracted = new AtomicReference<>(false);
+    AtomicReference<Boolean> statusExtracted = new AtomicReference<>(false);
+
+    InstrumenterBuilder<Map<String, String>, Map<String, String>> builder =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new AttributesExtractor1())
+            .addSpanLinksExtractor((spanLinks, parent, request) -> linksExtracted.set(true))
+            .setSpanStatusExtractor(
+                (spanStatus, request, response, error) -> statusExtracted.set(true))
+            .addContextCustomizer(
+                (context, request, attributes) -> {
+                  customizerAttributes.set(attributes);
+                  return context;
+                })
+            .addOperationListener(
+                new OperationListener() {
+                  @Override
+                  public Context onStart(Context context, Attributes attributes, long startNanos) {
+                    return context;
+                  }
+
+                  @Override
+                  public void onEnd(Context context, Attributes attributes, long endNanos) {
+                    listenerEndAttributes.set(attributes);
+                  }
+                });
+    Experimental.setSkipUnsampledSpanAttributes(builder, true);
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        builder.buildServerInstrumenter(new MapGetter());
+
+    Context parentContext =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.createFromRemoteParent(
+                        "ff01020304050600ff0a0b0c0d0e0f00",
+                        "090a0b0c0d0e0f00",
+                        TraceFlags.getDefault(),
+                        TraceState.getDefault())));
+
+    Context context = instrumenter.start(parentContext, REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(customizerAttributes.get()).containsEntry("req1", "req1_value");
+    assertThat(listenerEndAttributes.get()).containsEntry("resp1", "resp1_value");
+    assertThat(linksExtracted.get()).isFalse();
+    assertThat(statusExtracted.get()).isFalse();
+    otelTesting.assertTraces().isEmpty();
+  }
+
   private static void assertThatSpanKeyWasStored(SpanKey spanKey, Context context) {
     Span span = Span.fromContext(context);
     assertThat(span).isNotNull();
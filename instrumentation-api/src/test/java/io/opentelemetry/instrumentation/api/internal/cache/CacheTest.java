@@ -8,6 +8,9 @@ package io.opentelemetry.instrumentation.api.internal.cache;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +38,115 @@ class CacheTest {
       assertThat(mapBackedCache.size()).isEqualTo(1);
       assertThat(cache.computeIfAbsent("cat", unused -> "purr")).isEqualTo("purr");
     }
+
+    @Test
+    void weighted() {
+      List<String> evicted = new ArrayList<>();
+      Cache<String, String> cache =
+          Cache.weighted(10, (key, value) -> key.length(), (key, value) -> evicted.add(key));
+
+      MapBackedCache<?, ?> mapBackedCache = ((MapBackedCache<?, ?>) cache);
+      assertThat(cache.computeIfAbsent("bear", unused -> "roar")).isEqualTo("roar");
+      assertThat(cache.computeIfAbsent("cat", unused -> "meow")).isEqualTo("meow");
+      assertThat(mapBackedCache.size()).isEqualTo(2);
+      assertThat(evicted).isEmpty();
+
+      // total weight 4 + 3 + 5 exceeds the maximum weight, the least recently used entry is evicted
+      cache.put("horse", "neigh");
+      assertThat(mapBackedCache.size()).isEqualTo(2);
+      assertThat(cache.get("bear")).isNull();
+      assertThat(evicted).containsExactly("bear");
+    }
+
+    @Test
+    void tinyLfu() {
+      Cache<String, String> cache = Cache.tinyLfu(10);
+      TinyLfuCache<?, ?> tinyLfuCache = (TinyLfuCache<?, ?>) cache;
+
+      assertThat(cache.computeIfAbsent("bear", unused -> "roar")).isEqualTo("roar");
+      for (int i = 0; i < 5; i++) {
+        assertThat(cache.get("bear")).isEqualTo("roar");
+      }
+
+      // keys that are requested only once must not push out the frequently requested one
+      for (int i = 0; i < 50; i++) {
+        cache.computeIfAbsent("key" + i, key -> key);
+      }
+      assertThat(tinyLfuCache.size()).isEqualTo(10);
+      assertThat(cache.get("bear")).isEqualTo("roar");
+
+      cache.remove("bear");
+      assertThat(cache.get("bear")).isNull();
+      assertThat(tinyLfuCache.size()).isEqualTo(9);
+
+      cache.put("cat", "meow");
+      assertThat(cache.get("cat")).isEqualTo("meow");
+      cache.put("cat", "purr");
+      assertThat(cache.computeIfAbsent("cat", unused -> "hiss")).isEqualTo("purr");
+    }
+
+    @Test
+    void tinyLfuKeepsHotKeysDuringConcurrentScan() throws InterruptedException {
+      Cache<String, String> cache = Cache.tinyLfu(100);
+      TinyLfuCache<?, ?> tinyLfuCache = (TinyLfuCache<?, ?>) cache;
+
+      List<String> hotKeys = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        hotKeys.add("hot" + i);
+      }
+      for (String hotKey : hotKeys) {
+        cache.put(hotKey, hotKey);
+      }
+      // push the last hot key out of the admission window, reading the hot keys again then moves
+      // them to the protected segment
+      cache.put("cold", "cold");
+      for (int i = 0; i < 20; i++) {
+        for (String hotKey : hotKeys) {
+          assertThat(cache.get(hotKey)).isEqualTo(hotKey);
+        }
+      }
+
+      // keep reading the hot keys while other threads scan through keys that are requested once
+      AtomicBoolean scanning = new AtomicBoolean(true);
+      List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Thread reader =
+            new Thread(
+                () -> {
+                  while (scanning.get()) {
+                    for (String hotKey : hotKeys) {
+                      cache.get(hotKey);
+                    }
+                  }
+                });
+        threads.add(reader);
+      }
+      List<Thread> scanners = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        String prefix = "scan" + i + "-";
+        scanners.add(
+            new Thread(
+                () -> {
+                  for (int j = 0; j < 10_000; j++) {
+                    cache.computeIfAbsent(prefix + j, key -> key);
+                  }
+                }));
+      }
+      threads.addAll(scanners);
+      threads.forEach(Thread::start);
+      for (Thread scanner : scanners) {
+        scanner.join();
+      }
+      scanning.set(false);
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertThat(tinyLfuCache.size()).isEqualTo(100);
+      for (String hotKey : hotKeys) {
+        assertThat(cache.get(hotKey)).isEqualTo(hotKey);
+      }
+    }
   }
 
   @Nested
@@ -74,5 +186,54 @@ class CacheTest {
       // Wait for GC to be reflected.
       await().untilAsserted(() -> assertThat(weakLockFreeCache.size()).isEqualTo(0));
     }
+
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    @Test
+    void striped() {
+      Cache<String, String> cache = Cache.stripedWeak();
+
+      assertThat(cache.computeIfAbsent("bear", unused -> "roar")).isEqualTo("roar");
+      cache.remove("bear");
+
+      StripedWeakCache<?, ?> stripedWeakCache = ((StripedWeakCache<?, ?>) cache);
+      String cat = new String("cat");
+      String dog = new String("dog");
+      assertThat(cache.computeIfAbsent(cat, unused -> "meow")).isEqualTo("meow");
+      assertThat(stripedWeakCache.size()).isEqualTo(1);
+
+      assertThat(cache.computeIfAbsent(cat, unused -> "bark")).isEqualTo("meow");
+      assertThat(stripedWeakCache.size()).isEqualTo(1);
+
+      cache.put(dog, "bark");
+      assertThat(cache.get(dog)).isEqualTo("bark");
+      assertThat(cache.get(cat)).isEqualTo("meow");
+      assertThat(cache.get(new String("dog"))).isNull();
+      assertThat(stripedWeakCache.size()).isEqualTo(2);
+
+      // grow the tables past their initial capacity and remove the added entries again
+      List<String> keys = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        String key = "key" + i;
+        keys.add(key);
+        cache.put(key, "value" + i);
+      }
+      assertThat(stripedWeakCache.size()).isEqualTo(1002);
+      for (int i = 0; i < keys.size(); i++) {
+        assertThat(cache.get(keys.get(i))).isEqualTo("value" + i);
+        cache.remove(keys.get(i));
+      }
+      assertThat(stripedWeakCache.size()).isEqualTo(2);
+      assertThat(cache.get(cat)).isEqualTo("meow");
+
+      cat = null;
+      System.gc();
+      // Wait for GC to be reflected.
+      await().untilAsserted(() -> assertThat(stripedWeakCache.size()).isEqualTo(1));
+      assertThat(cache.computeIfAbsent(dog, unused -> "bark")).isEqualTo("bark");
+      dog = null;
+      System.gc();
+      // Wait for GC to be reflected.
+      await().untilAsserted(() -> assertThat(stripedWeakCache.size()).isEqualTo(0));
+    }
   }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_REQUEST_METHOD;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_ROUTE;
+import static io.opentelemetry.semconv.NetworkAttributes.NETWORK_PEER_ADDRESS;
+import static io.opentelemetry.semconv.UrlAttributes.URL_PATH;
+import static io.opentelemetry.semconv.UrlAttributes.URL_SCHEME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import org.junit.jupiter.api.Test;
+
+class HttpMetricsAttributesTest {
+
+  static final Attributes START_ATTRIBUTES =
+      Attributes.builder()
+          .put(HTTP_REQUEST_METHOD, "GET")
+          .put(HTTP_ROUTE, "/start")
+          .put(URL_SCHEME, "https")
+          .put(URL_PATH, "/users/123")
+          .build();
+
+  static final Attributes END_ATTRIBUTES =
+      Attributes.builder()
+          .put(HTTP_ROUTE, "/users/{id}")
+          .put(HTTP_RESPONSE_STATUS_CODE, 200)
+          .put(NETWORK_PEER_ADDRESS, "1.2.3.4")
+          .build();
+
+  @Test
+  void mergesAllAttributes() {
+    Attributes attributes =
+        HttpMetricsAttributes.merge(
+            START_ATTRIBUTES,
+            END_ATTRIBUTES,
+            HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTE_KEYS,
+            false);
+
+    assertThat(attributes)
+        .isEqualTo(
+            Attributes.builder()
+                .put(HTTP_REQUEST_METHOD, "GET")
+                .put(HTTP_ROUTE, "/users/{id}")
+                .put(URL_SCHEME, "https")
+                .put(URL_PATH, "/users/123")
+                .put(HTTP_RESPONSE_STATUS_CODE, 200)
+                .put(NETWORK_PEER_ADDRESS, "1.2.3.4")
+                .build());
+  }
+
+  @Test
+  void mergesAdvisedAttributesOnly() {
+    Attributes attributes =
+        HttpMetricsAttributes.merge(
+            START_ATTRIBUTES,
+            END_ATTRIBUTES,
+            HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTE_KEYS,
+            true);
+
+    assertThat(attributes)
+        .isEqualTo(
+            Attributes.builder()
+                .put(HTTP_REQUEST_METHOD, "GET")
+                .put(HTTP_ROUTE, "/users/{id}")
+                .put(URL_SCHEME, "https")
+                .put(HTTP_RESPONSE_STATUS_CODE, 200)
+                .build());
+  }
+}
@@ -34,10 +34,12 @@ import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.internal.HttpConstants;
+import io.opentelemetry.instrumentation.api.semconv.http.internal.HttpHeadersBulkGetter;
 import java.net.ConnectException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -166,6 +168,55 @@ class HttpServerAttributesExtractorTest {
     }
   }
 
+  static class TestBulkHttpServerAttributesGetter extends TestHttpServerAttributesGetter
+      implements HttpHeadersBulkGetter<Map<String, String>, Map<String, String>> {
+
+    int requestHeaderIterations;
+
+    @Override
+    public boolean forEachHttpRequestHeader(Map<String, String> request, HeaderConsumer consumer) {
+      requestHeaderIterations++;
+      request.forEach(
+          (key, values) -> {
+            if (key.startsWith("header.")) {
+              // header names are matched case-insensitively
+              String name = key.substring("header.".length()).toUpperCase(Locale.ROOT);
+              for (String value : values.split(",")) {
+                consumer.accept(name, value);
+              }
+            }
+          });
+      return true;
+    }
+
+    @Override
+    public boolean forEachHttpResponseHeader(
+        Map<String, String> request, Map<String, String> response, HeaderConsumer consumer) {
+      return false;
+    }
+  }
+
+  @Test
+  void shouldLookUpFewCapturedHeadersByName() {
+    Map<String, String> request = new HashMap<>();
+    request.put("header.custom-request-header", "123,456");
+
+    TestBulkHttpServerAttributesGetter getter = new TestBulkHttpServerAttributesGetter();
+    AttributesExtractor<Map<String, String>, Map<String, String>> extractor =
+        HttpServerAttributesExtractor.builder(getter)
+            .setCapturedRequestHeaders(singletonList("Custom-Request-Header"))
+            .build();
+
+    AttributesBuilder startAttributes = Attributes.builder();
+    extractor.onStart(startAttributes, Context.root(), request);
+    assertThat(getter.requestHeaderIterations).isZero();
+    assertThat(startAttributes.build())
+        .containsOnly(
+            entry(
+                AttributeKey.stringArrayKey("http.request.header.custom-request-header"),
+                asList("123", "456")));
+  }
+
   @Test
   void normal() {
     Map<String, String> request = new HashMap<>();
@@ -234,6 +285,56 @@ class HttpServerAttributesExtractorTest {
                 asList("654", "321")));
   }
 
+  @Test
+  void shouldCaptureHeadersWithBulkGetter() {
+    Map<String, String> request = new HashMap<>();
+    request.put("header.custom-request-header", "123,456");
+    request.put("header.other-request-header", "789");
+    request.put("header.ignored-header", "0");
+
+    Map<String, String> response = new HashMap<>();
+    response.put("statusCode", "200");
+    response.put("header.custom-response-header", "654,321");
+
+    TestBulkHttpServerAttributesGetter getter = new TestBulkHttpServerAttributesGetter();
+    AttributesExtractor<Map<String, String>, Map<String, String>> extractor =
+        HttpServerAttributesExtractor.builder(getter)
+            .setCapturedRequestHeaders(
+                asList(
+                    "Custom-Request-Header",
+                    "other-request-header",
+                    "missing-header-1",
+                    "missing-header-2",
+                    "missing-header-3",
+                    "missing-header-4",
+                    "missing-header-5",
+                    "missing-header-6"))
+            .setCapturedResponseHeaders(singletonList("Custom-Response-Header"))
+            .build();
+
+    AttributesBuilder startAttributes = Attributes.builder();
+    extractor.onStart(startAttributes, Context.root(), request);
+    assertThat(getter.requestHeaderIterations).isEqualTo(1);
+    assertThat(startAttributes.build())
+        .containsOnly(
+            entry(
+                AttributeKey.stringArrayKey("http.request.header.custom-request-header"),
+                asList("123", "456")),
+            entry(
+                AttributeKey.stringArrayKey("http.request.header.other-request-header"),
+                singletonList("789")));
+
+    // the response headers can't be iterated and are looked up by name
+    AttributesBuilder endAttributes = Attributes.builder();
+    extractor.onEnd(endAttributes, Context.root(), request, response, null);
+    assertThat(endAttributes.build())
+        .containsOnly(
+            entry(HTTP_RESPONSE_STATUS_CODE, 200L),
+            entry(
+                AttributeKey.stringArrayKey("http.response.header.custom-response-header"),
+                asList("654", "321")));
+  }
+
   @ParameterizedTest
   @ArgumentsSource(ValidRequestMethodsProvider.class)
   void shouldExtractKnownMethods(String requestMethod) {
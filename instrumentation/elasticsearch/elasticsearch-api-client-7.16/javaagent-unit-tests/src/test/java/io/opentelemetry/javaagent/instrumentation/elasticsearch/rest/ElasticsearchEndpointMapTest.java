@@ -97,6 +97,18 @@ class ElasticsearchEndpointMapTest {
     assertThat(observedParams.get("index")).isEqualTo("test-index-1,test-index-2");
   }
 
+  @Test
+  void testProcessPathPartsNoMatch() {
+    ElasticsearchEndpointDefinition esEndpoint = ElasticsearchEndpointMap.get("explain");
+    Map<String, String> observedParams = new HashMap<>();
+    esEndpoint.processPathParts("/test-index/_explain", (k, v) -> observedParams.put(k, v));
+    esEndpoint.processPathParts("/test-index/_explain/", (k, v) -> observedParams.put(k, v));
+    esEndpoint.processPathParts("/test-index/_explain/1/2", (k, v) -> observedParams.put(k, v));
+    esEndpoint.processPathParts("//_explain/1", (k, v) -> observedParams.put(k, v));
+
+    assertThat(observedParams).isEmpty();
+  }
+
   @Test
   void testBuildRegexPattern() {
     Pattern pattern =
@@ -49,19 +49,8 @@ public final class ElasticsearchEndpointDefinition {
 
   public void processPathParts(String urlPath, BiConsumer<String, String> consumer) {
     for (Route route : routes) {
-      if (route.hasParameters()) {
-        Matcher matcher = route.createMatcher(urlPath);
-        if (matcher.find()) {
-          for (String key : route.getPathPartNames()) {
-            String value = matcher.group(key);
-            if (key.contains(UNDERSCORE_REPLACEMENT)) {
-              // replace underscore back
-              key = key.replace(UNDERSCORE_REPLACEMENT, "_");
-            }
-            consumer.accept(key, value);
-          }
-          return;
-        }
+      if (route.hasParameters() && route.processPathParts(urlPath, consumer)) {
+        return;
       }
     }
   }
@@ -79,11 +68,37 @@ public final class ElasticsearchEndpointDefinition {
     private final String name;
     private final boolean hasParameters;
 
+    // the segments of the route between slashes, path part segments are null
+    @Nullable private final String[] segments;
+    // the names of the path parts of the segments, null for literal segments
+    @Nullable private final String[] segmentPathPartNames;
+
     private volatile EndpointPattern epPattern;
 
     public Route(String name) {
       this.name = name;
       this.hasParameters = name.contains("{") && name.contains("}");
+
+      String[] segments = null;
+      String[] segmentPathPartNames = null;
+      if (hasParameters) {
+        segments = name.split("/", -1);
+        segmentPathPartNames = new String[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+          String segment = segments[i];
+          if (segment.startsWith("{") && segment.endsWith("}") && segment.length() > 2) {
+            segmentPathPartNames[i] = segment.substring(1, segment.length() - 1);
+            segments[i] = null;
+          } else if (segment.contains("{") || segment.contains("}")) {
+            // path parts that are only a part of a segment are matched with a regex
+            segments = null;
+            segmentPathPartNames = null;
+            break;
+          }
+        }
+      }
+      this.segments = segments;
+      this.segmentPathPartNames = segmentPathPartNames;
     }
 
     public String getName() {
@@ -94,12 +109,74 @@ public final class ElasticsearchEndpointDefinition {
       return hasParameters;
     }
 
-    List<String> getPathPartNames() {
-      return getEndpointPattern().getPathPartNames();
+    /**
+     * Passes the path parts to the consumer and returns {@code true} when the url path matches this
+     * route. Routes are matched segment by segment, without a regex.
+     */
+    boolean processPathParts(String urlPath, BiConsumer<String, String> consumer) {
+      if (segments == null || segmentPathPartNames == null) {
+        return processPathPartsWithRegex(urlPath, consumer);
+      }
+      if (!matchesSegments(urlPath, segments, segmentPathPartNames)) {
+        return false;
+      }
+      int start = 0;
+      for (String pathPartName : segmentPathPartNames) {
+        int end = segmentEnd(urlPath, start);
+        if (pathPartName != null) {
+          consumer.accept(pathPartName, urlPath.substring(start, end));
+        }
+        start = end + 1;
+      }
+      return true;
     }
 
-    Matcher createMatcher(String urlPath) {
-      return getEndpointPattern().getPattern().matcher(urlPath);
+    private static boolean matchesSegments(
+        String urlPath, String[] segments, String[] segmentPathPartNames) {
+      int start = 0;
+      for (int i = 0; i < segments.length; i++) {
+        if (start > urlPath.length()) {
+          // the url path has fewer segments than the route
+          return false;
+        }
+        int end = segmentEnd(urlPath, start);
+        String literal = segments[i];
+        if (segmentPathPartNames[i] != null) {
+          // path parts match any non-empty segment
+          if (end == start) {
+            return false;
+          }
+        } else if (end - start != literal.length()
+            || !urlPath.regionMatches(start, literal, 0, literal.length())) {
+          return false;
+        }
+        start = end + 1;
+      }
+      // the url path must not have more segments than the route
+      return start == urlPath.length() + 1;
+    }
+
+    private static int segmentEnd(String urlPath, int start) {
+      int end = urlPath.indexOf('/', start);
+      return end == -1 ? urlPath.length() : end;
+    }
+
+    private boolean processPathPartsWithRegex(
+        String urlPath, BiConsumer<String, String> consumer) {
+      EndpointPattern endpointPattern = getEndpointPattern();
+      Matcher matcher = endpointPattern.getPattern().matcher(urlPath);
+      if (!matcher.find()) {
+        return false;
+      }
+      for (String key : endpointPattern.getPathPartNames()) {
+        String value = matcher.group(key);
+        if (key.contains(UNDERSCORE_REPLACEMENT)) {
+          // replace underscore back
+          key = key.replace(UNDERSCORE_REPLACEMENT, "_");
+        }
+        consumer.accept(key, value);
+      }
+      return true;
     }
 
     private EndpointPattern getEndpointPattern() {
@@ -15,7 +15,9 @@ import io.grpc.ServerInterceptor;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.grpc.v1_6.GrpcTelemetry;
+import io.opentelemetry.instrumentation.grpc.v1_6.GrpcTelemetryBuilder;
 import io.opentelemetry.instrumentation.grpc.v1_6.internal.ContextStorageBridge;
+import io.opentelemetry.instrumentation.grpc.v1_6.internal.Experimental;
 import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
@@ -41,6 +43,10 @@ public final class GrpcSingletons {
         AgentInstrumentationConfig.get()
             .getBoolean("otel.instrumentation.grpc.emit-message-events", true);
 
+    boolean emitMessageStats =
+        AgentInstrumentationConfig.get()
+            .getBoolean("otel.instrumentation.grpc.experimental.emit-message-stats", false);
+
     boolean experimentalSpanAttributes =
         AgentInstrumentationConfig.get()
             .getBoolean("otel.instrumentation.grpc.experimental-span-attributes", false);
@@ -52,13 +58,14 @@ public final class GrpcSingletons {
         AgentInstrumentationConfig.get()
             .getList("otel.instrumentation.grpc.capture-metadata.server.request", emptyList());
 
-    GrpcTelemetry telemetry =
+    GrpcTelemetryBuilder builder =
         GrpcTelemetry.builder(GlobalOpenTelemetry.get())
             .setEmitMessageEvents(emitMessageEvents)
             .setCaptureExperimentalSpanAttributes(experimentalSpanAttributes)
             .setCapturedClientRequestMetadata(clientRequestMetadata)
-            .setCapturedServerRequestMetadata(serverRequestMetadata)
-            .build();
+            .setCapturedServerRequestMetadata(serverRequestMetadata);
+    Experimental.setEmitMessageStats(builder, emitMessageStats);
+    GrpcTelemetry telemetry = builder.build();
 
     CLIENT_INTERCEPTOR = telemetry.newClientInterceptor();
     SERVER_INTERCEPTOR = telemetry.newServerInterceptor();
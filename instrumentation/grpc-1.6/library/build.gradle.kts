@@ -1,6 +1,7 @@
 plugins {
   id("otel.library-instrumentation")
   id("otel.animalsniffer-conventions")
+  id("otel.jmh-conventions")
 }
 
 val grpcVersion = "1.6.0"
@@ -14,6 +15,8 @@ dependencies {
   testLibrary("io.grpc:grpc-stub:$grpcVersion")
 
   testImplementation(project(":instrumentation:grpc-1.6:testing"))
+
+  jmhImplementation("io.grpc:grpc-protobuf:$grpcVersion")
 }
 
 tasks {
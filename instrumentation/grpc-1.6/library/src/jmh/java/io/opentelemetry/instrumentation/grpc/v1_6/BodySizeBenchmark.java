@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.StringValue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+// measures the reflective getSerializedSize() lookup in BodySizeUtil against a direct call on the
+// message, which is the lower bound for computing the body size
+public class BodySizeBenchmark {
+
+  private static final Object message = StringValue.newBuilder().setValue("hello world").build();
+
+  @Benchmark
+  public Long bodySizeUtil() {
+    return BodySizeUtil.getBodySize(message);
+  }
+
+  @Benchmark
+  public long directCall() {
+    return ((MessageLite) message).getSerializedSize();
+  }
+}
@@ -11,6 +11,7 @@ import io.grpc.Status;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import javax.annotation.Nullable;
 
 /** Entrypoint for instrumenting gRPC servers or clients. */
 public final class GrpcTelemetry {
@@ -30,18 +31,24 @@ public final class GrpcTelemetry {
   private final ContextPropagators propagators;
   private final boolean captureExperimentalSpanAttributes;
   private final boolean emitMessageEvents;
+  @Nullable private final MessageStatsRecorder serverMessageStatsRecorder;
+  @Nullable private final MessageStatsRecorder clientMessageStatsRecorder;
 
   GrpcTelemetry(
       Instrumenter<GrpcRequest, Status> serverInstrumenter,
       Instrumenter<GrpcRequest, Status> clientInstrumenter,
       ContextPropagators propagators,
       boolean captureExperimentalSpanAttributes,
-      boolean emitMessageEvents) {
+      boolean emitMessageEvents,
+      @Nullable MessageStatsRecorder serverMessageStatsRecorder,
+      @Nullable MessageStatsRecorder clientMessageStatsRecorder) {
     this.serverInstrumenter = serverInstrumenter;
     this.clientInstrumenter = clientInstrumenter;
     this.propagators = propagators;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
     this.emitMessageEvents = emitMessageEvents;
+    this.serverMessageStatsRecorder = serverMessageStatsRecorder;
+    this.clientMessageStatsRecorder = clientMessageStatsRecorder;
   }
 
   /**
@@ -50,7 +57,11 @@ public final class GrpcTelemetry {
    */
   public ClientInterceptor newClientInterceptor() {
     return new TracingClientInterceptor(
-        clientInstrumenter, propagators, captureExperimentalSpanAttributes, emitMessageEvents);
+        clientInstrumenter,
+        propagators,
+        captureExperimentalSpanAttributes,
+        emitMessageEvents,
+        clientMessageStatsRecorder);
   }
 
   /**
@@ -59,6 +70,9 @@ public final class GrpcTelemetry {
    */
   public ServerInterceptor newServerInterceptor() {
     return new TracingServerInterceptor(
-        serverInstrumenter, captureExperimentalSpanAttributes, emitMessageEvents);
+        serverInstrumenter,
+        captureExperimentalSpanAttributes,
+        emitMessageEvents,
+        serverMessageStatsRecorder);
   }
 }
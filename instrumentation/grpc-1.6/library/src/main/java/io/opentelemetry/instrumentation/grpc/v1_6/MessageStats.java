@@ -0,0 +1,115 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Accumulates the messages sent or received in one direction of a call. The memory used doesn't
+ * depend on the number of messages: sizes are counted in power of two buckets, so the size
+ * percentiles are approximations that are at most twice the actual value.
+ *
+ * <p>gRPC doesn't send or deliver messages of one direction concurrently, the methods are
+ * synchronized only to publish the values to the thread that ends the call.
+ */
+final class MessageStats {
+
+  static final Keys SENT = new Keys("grpc.sent.");
+  static final Keys RECEIVED = new Keys("grpc.received.");
+
+  private static final double NANOS_PER_S = TimeUnit.SECONDS.toNanos(1);
+
+  private final Keys keys;
+
+  private long count;
+  // messages whose size is known, e.g. protobuf messages
+  private long sizedCount;
+  private long totalSize;
+  private long maxSize;
+  // bucket i counts the messages whose size has the bit length i
+  private final long[] sizeBuckets = new long[Long.SIZE + 1];
+
+  private long lastMessageNanos;
+  private long totalGapNanos;
+  private long maxGapNanos;
+
+  MessageStats(Keys keys) {
+    this.keys = keys;
+  }
+
+  synchronized void record(@Nullable Long size, long nanos) {
+    if (count > 0) {
+      long gap = nanos - lastMessageNanos;
+      totalGapNanos += gap;
+      maxGapNanos = Math.max(maxGapNanos, gap);
+    }
+    lastMessageNanos = nanos;
+    count++;
+
+    if (size != null) {
+      sizedCount++;
+      totalSize += size;
+      maxSize = Math.max(maxSize, size);
+      sizeBuckets[Long.SIZE - Long.numberOfLeadingZeros(size)]++;
+    }
+  }
+
+  synchronized long getCount() {
+    return count;
+  }
+
+  /** Returns an upper bound of the size that the given fraction of the messages doesn't exceed. */
+  synchronized long getSizePercentile(double fraction) {
+    long rank = (long) Math.ceil(fraction * sizedCount);
+    long seen = 0;
+    for (int i = 0; i < sizeBuckets.length; i++) {
+      seen += sizeBuckets[i];
+      if (seen >= rank && seen > 0) {
+        // the largest value with the bit length i
+        long upperBound = i == 0 ? 0 : i == Long.SIZE ? Long.MAX_VALUE : (1L << i) - 1;
+        return Math.min(upperBound, maxSize);
+      }
+    }
+    return 0;
+  }
+
+  synchronized void setAttributes(Span span) {
+    span.setAttribute(keys.count, count);
+    if (sizedCount > 0) {
+      span.setAttribute(keys.totalSize, totalSize);
+      span.setAttribute(keys.sizeP50, getSizePercentile(0.5));
+      span.setAttribute(keys.sizeP99, getSizePercentile(0.99));
+      span.setAttribute(keys.sizeMax, maxSize);
+    }
+    if (count > 1) {
+      span.setAttribute(keys.gapMean, totalGapNanos / (count - 1) / NANOS_PER_S);
+      span.setAttribute(keys.gapMax, maxGapNanos / NANOS_PER_S);
+    }
+  }
+
+  static final class Keys {
+    final AttributeKey<Long> count;
+    final AttributeKey<Long> totalSize;
+    final AttributeKey<Long> sizeP50;
+    final AttributeKey<Long> sizeP99;
+    final AttributeKey<Long> sizeMax;
+    final AttributeKey<Double> gapMean;
+    final AttributeKey<Double> gapMax;
+
+    private Keys(String prefix) {
+      count = AttributeKey.longKey(prefix + "message_count");
+      totalSize = AttributeKey.longKey(prefix + "message.total_size");
+      sizeP50 = AttributeKey.longKey(prefix + "message.size.p50");
+      sizeP99 = AttributeKey.longKey(prefix + "message.size.p99");
+      sizeMax = AttributeKey.longKey(prefix + "message.size.max");
+      gapMean = AttributeKey.doubleKey(prefix + "message.gap.mean");
+      gapMax = AttributeKey.doubleKey(prefix + "message.gap.max");
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import io.grpc.Status;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Sets the message stats of a call as span attributes and records the number of messages of the
+ * call in the {@code rpc.*.requests_per_rpc} and {@code rpc.*.responses_per_rpc} histograms when
+ * the call ends. Used instead of a span event for every message, so that streaming calls don't
+ * cost more to trace than unary calls.
+ */
+final class MessageStatsRecorder {
+
+  // copied from RpcIncubatingAttributes
+  private static final AttributeKey<String> RPC_SYSTEM = AttributeKey.stringKey("rpc.system");
+  private static final AttributeKey<String> RPC_SERVICE = AttributeKey.stringKey("rpc.service");
+  private static final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
+  private static final AttributeKey<Long> RPC_GRPC_STATUS_CODE =
+      AttributeKey.longKey("rpc.grpc.status_code");
+
+  private static final List<Long> MESSAGE_COUNT_BUCKETS =
+      unmodifiableList(
+          asList(1L, 2L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1000L, 10000L, 100000L, 1000000L));
+
+  static MessageStatsRecorder client(Meter meter) {
+    return new MessageStatsRecorder(meter, "rpc.client.", true);
+  }
+
+  static MessageStatsRecorder server(Meter meter) {
+    return new MessageStatsRecorder(meter, "rpc.server.", false);
+  }
+
+  private final boolean client;
+  private final LongHistogram requestsPerRpc;
+  private final LongHistogram responsesPerRpc;
+
+  private MessageStatsRecorder(Meter meter, String prefix, boolean client) {
+    this.client = client;
+    requestsPerRpc =
+        meter
+            .histogramBuilder(prefix + "requests_per_rpc")
+            .ofLongs()
+            .setUnit("{count}")
+            .setDescription("Measures the number of request messages per RPC.")
+            .setExplicitBucketBoundariesAdvice(MESSAGE_COUNT_BUCKETS)
+            .build();
+    responsesPerRpc =
+        meter
+            .histogramBuilder(prefix + "responses_per_rpc")
+            .ofLongs()
+            .setUnit("{count}")
+            .setDescription("Measures the number of response messages per RPC.")
+            .setExplicitBucketBoundariesAdvice(MESSAGE_COUNT_BUCKETS)
+            .build();
+  }
+
+  CallStats newCall() {
+    return new CallStats();
+  }
+
+  private void record(
+      Context context,
+      GrpcRequest request,
+      @Nullable Status status,
+      MessageStats requests,
+      MessageStats responses) {
+    Span span = Span.fromContext(context);
+    requests.setAttributes(span);
+    responses.setAttributes(span);
+
+    AttributesBuilder attributes = Attributes.builder();
+    attributes.put(RPC_SYSTEM, GrpcRpcAttributesGetter.INSTANCE.getSystem(request));
+    internalSet(attributes, RPC_SERVICE, GrpcRpcAttributesGetter.INSTANCE.getService(request));
+    internalSet(attributes, RPC_METHOD, GrpcRpcAttributesGetter.INSTANCE.getMethod(request));
+    if (status != null) {
+      attributes.put(RPC_GRPC_STATUS_CODE, status.getCode().value());
+    }
+    Attributes built = attributes.build();
+    requestsPerRpc.record(requests.getCount(), built, context);
+    responsesPerRpc.record(responses.getCount(), built, context);
+  }
+
+  /** The message stats of a single call. */
+  final class CallStats {
+    final MessageStats sent = new MessageStats(MessageStats.SENT);
+    final MessageStats received = new MessageStats(MessageStats.RECEIVED);
+
+    private CallStats() {}
+
+    /**
+     * Sets the stats as span attributes and records the histograms. Requests are the messages sent
+     * by clients and received by servers, responses the other way around.
+     */
+    void end(Context context, GrpcRequest request, @Nullable Status status) {
+      if (client) {
+        record(context, request, status, sent, received);
+      } else {
+        record(context, request, status, received, sent);
+      }
+    }
+  }
+}
@@ -23,6 +23,7 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.annotation.Nullable;
 
 final class TracingClientInterceptor implements ClientInterceptor {
 
@@ -49,16 +50,19 @@ final class TracingClientInterceptor implements ClientInterceptor {
   private final ContextPropagators propagators;
   private final boolean captureExperimentalSpanAttributes;
   private final boolean emitMessageEvents;
+  @Nullable private final MessageStatsRecorder messageStatsRecorder;
 
   TracingClientInterceptor(
       Instrumenter<GrpcRequest, Status> instrumenter,
       ContextPropagators propagators,
       boolean captureExperimentalSpanAttributes,
-      boolean emitMessageEvents) {
+      boolean emitMessageEvents,
+      @Nullable MessageStatsRecorder messageStatsRecorder) {
     this.instrumenter = instrumenter;
     this.propagators = propagators;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
     this.emitMessageEvents = emitMessageEvents;
+    this.messageStatsRecorder = messageStatsRecorder;
   }
 
   @Override
@@ -89,6 +93,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
     private final Context parentContext;
     private final Context context;
     private final GrpcRequest request;
+    @Nullable private final MessageStatsRecorder.CallStats messageStats;
 
     // Used by SENT_MESSAGE_ID_UPDATER
     @SuppressWarnings("UnusedVariable")
@@ -107,6 +112,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
       this.parentContext = parentContext;
       this.context = context;
       this.request = request;
+      this.messageStats = messageStatsRecorder != null ? messageStatsRecorder.newCall() : null;
     }
 
     @Override
@@ -119,27 +125,38 @@ final class TracingClientInterceptor implements ClientInterceptor {
             new TracingClientCallListener(responseListener, parentContext, context, request),
             headers);
       } catch (Throwable e) {
-        instrumenter.end(context, request, Status.UNKNOWN, e);
+        end(Status.UNKNOWN, e);
         throw e;
       }
     }
 
     @Override
     public void sendMessage(REQUEST message) {
-      request.setRequestSize(BodySizeUtil.getBodySize(message));
+      Long size = BodySizeUtil.getBodySize(message);
+      request.setRequestSize(size);
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       } catch (Throwable e) {
-        instrumenter.end(context, request, Status.UNKNOWN, e);
+        end(Status.UNKNOWN, e);
         throw e;
       }
       long messageId = SENT_MESSAGE_ID_UPDATER.incrementAndGet(this);
+      if (messageStats != null) {
+        messageStats.sent.record(size, System.nanoTime());
+      }
       if (emitMessageEvents) {
         Attributes attributes = Attributes.of(MESSAGE_TYPE, SENT, MESSAGE_ID, messageId);
         Span.fromContext(context).addEvent("message", attributes);
       }
     }
 
+    private void end(Status status, @Nullable Throwable error) {
+      if (messageStats != null) {
+        messageStats.end(context, request, status);
+      }
+      instrumenter.end(context, request, status, error);
+    }
+
     final class TracingClientCallListener
         extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RESPONSE> {
 
@@ -160,8 +177,12 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
       @Override
       public void onMessage(RESPONSE message) {
-        request.setResponseSize(BodySizeUtil.getBodySize(message));
+        Long size = BodySizeUtil.getBodySize(message);
+        request.setResponseSize(size);
         long messageId = RECEIVED_MESSAGE_ID_UPDATER.incrementAndGet(TracingClientCall.this);
+        if (messageStats != null) {
+          messageStats.received.record(size, System.nanoTime());
+        }
         if (emitMessageEvents) {
           Attributes attributes = Attributes.of(MESSAGE_TYPE, RECEIVED, MESSAGE_ID, messageId);
           Span.fromContext(context).addEvent("message", attributes);
@@ -181,7 +202,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
           span.setAttribute(
               GRPC_SENT_MESSAGE_COUNT, SENT_MESSAGE_ID_UPDATER.get(TracingClientCall.this));
         }
-        instrumenter.end(context, request, status, status.getCause());
+        end(status, status.getCause());
         try (Scope ignored = parentContext.makeCurrent()) {
           delegate().onClose(status, trailers);
         }
@@ -21,6 +21,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.annotation.Nullable;
 
 final class TracingServerInterceptor implements ServerInterceptor {
 
@@ -48,14 +49,17 @@ final class TracingServerInterceptor implements ServerInterceptor {
   private final Instrumenter<GrpcRequest, Status> instrumenter;
   private final boolean captureExperimentalSpanAttributes;
   private final boolean emitMessageEvents;
+  @Nullable private final MessageStatsRecorder messageStatsRecorder;
 
   TracingServerInterceptor(
       Instrumenter<GrpcRequest, Status> instrumenter,
       boolean captureExperimentalSpanAttributes,
-      boolean emitMessageEvents) {
+      boolean emitMessageEvents,
+      @Nullable MessageStatsRecorder messageStatsRecorder) {
     this.instrumenter = instrumenter;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
     this.emitMessageEvents = emitMessageEvents;
+    this.messageStatsRecorder = messageStatsRecorder;
   }
 
   @Override
@@ -96,6 +100,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
     private final Context context;
     private final GrpcRequest request;
     private Status status;
+    @Nullable private final MessageStatsRecorder.CallStats messageStats;
 
     // Used by SENT_MESSAGE_ID_UPDATER
     @SuppressWarnings("UnusedVariable")
@@ -110,6 +115,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
       super(delegate);
       this.context = context;
       this.request = request;
+      this.messageStats = messageStatsRecorder != null ? messageStatsRecorder.newCall() : null;
     }
 
     TracingServerCallListener start(Metadata headers, ServerCallHandler<REQUEST, RESPONSE> next) {
@@ -119,11 +125,15 @@ final class TracingServerInterceptor implements ServerInterceptor {
 
     @Override
     public void sendMessage(RESPONSE message) {
-      request.setRequestSize(BodySizeUtil.getBodySize(message));
+      Long size = BodySizeUtil.getBodySize(message);
+      request.setRequestSize(size);
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       }
       long messageId = SENT_MESSAGE_ID_UPDATER.incrementAndGet(this);
+      if (messageStats != null) {
+        messageStats.sent.record(size, System.nanoTime());
+      }
       if (emitMessageEvents) {
         Attributes attributes = Attributes.of(MESSAGE_TYPE, SENT, MESSAGE_ID, messageId);
         Span.fromContext(context).addEvent("message", attributes);
@@ -136,11 +146,18 @@ final class TracingServerInterceptor implements ServerInterceptor {
       try {
         delegate().close(status, trailers);
       } catch (Throwable e) {
-        instrumenter.end(context, request, status, e);
+        end(status, e);
         throw e;
       }
     }
 
+    private void end(Status status, @Nullable Throwable error) {
+      if (messageStats != null) {
+        messageStats.end(context, request, status);
+      }
+      instrumenter.end(context, request, status, error);
+    }
+
     final class TracingServerCallListener
         extends ForwardingServerCallListener.SimpleForwardingServerCallListener<REQUEST> {
       private final Context context;
@@ -163,13 +180,17 @@ final class TracingServerInterceptor implements ServerInterceptor {
             span.setAttribute(GRPC_CANCELED, true);
           }
         }
-        instrumenter.end(context, request, response, error);
+        TracingServerCall.this.end(response, error);
       }
 
       @Override
       public void onMessage(REQUEST message) {
-        request.setResponseSize(BodySizeUtil.getBodySize(message));
+        Long size = BodySizeUtil.getBodySize(message);
+        request.setResponseSize(size);
         long messageId = RECEIVED_MESSAGE_ID_UPDATER.incrementAndGet(TracingServerCall.this);
+        if (messageStats != null) {
+          messageStats.received.record(size, System.nanoTime());
+        }
         if (emitMessageEvents) {
           Attributes attributes = Attributes.of(MESSAGE_TYPE, RECEIVED, MESSAGE_ID, messageId);
           Span.fromContext(context).addEvent("message", attributes);
@@ -182,7 +203,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         try {
           delegate().onHalfClose();
         } catch (Throwable e) {
-          instrumenter.end(context, request, Status.UNKNOWN, e);
+          TracingServerCall.this.end(Status.UNKNOWN, e);
           throw e;
         }
       }
@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6.internal;
+
+import io.opentelemetry.instrumentation.grpc.v1_6.GrpcTelemetryBuilder;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * This class is internal and experimental. Its APIs are unstable and can change at any time. Its
+ * APIs (or a version of them) may be promoted to the public stable API in the future, but no
+ * guarantees are made.
+ */
+public final class Experimental {
+
+  @Nullable
+  private static volatile BiConsumer<GrpcTelemetryBuilder, Boolean> setEmitMessageStats;
+
+  /**
+   * Sets whether to aggregate the messages of a call into span attributes and the {@code
+   * rpc.*.requests_per_rpc} and {@code rpc.*.responses_per_rpc} histograms. When enabled, no span
+   * event is added for the individual messages.
+   */
+  public static void setEmitMessageStats(GrpcTelemetryBuilder builder, boolean emitMessageStats) {
+    if (setEmitMessageStats != null) {
+      setEmitMessageStats.accept(builder, emitMessageStats);
+    }
+  }
+
+  public static void internalSetEmitMessageStats(
+      BiConsumer<GrpcTelemetryBuilder, Boolean> setEmitMessageStats) {
+    Experimental.setEmitMessageStats = setEmitMessageStats;
+  }
+
+  private Experimental() {}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.satisfies;
+import static io.opentelemetry.semconv.incubating.RpcIncubatingAttributes.RPC_GRPC_STATUS_CODE;
+import static io.opentelemetry.semconv.incubating.RpcIncubatingAttributes.RPC_METHOD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import example.GreeterGrpc;
+import example.Helloworld;
+import io.grpc.BindableService;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.grpc.v1_6.internal.Experimental;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import io.opentelemetry.sdk.testing.assertj.MetricAssert;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class GrpcMessageStatsTest {
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = LibraryInstrumentationExtension.create();
+
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.grpc-1.6";
+
+  private static final AttributeKey<Long> SENT_COUNT =
+      AttributeKey.longKey("grpc.sent.message_count");
+  private static final AttributeKey<Long> SENT_TOTAL_SIZE =
+      AttributeKey.longKey("grpc.sent.message.total_size");
+  private static final AttributeKey<Long> SENT_SIZE_MAX =
+      AttributeKey.longKey("grpc.sent.message.size.max");
+  private static final AttributeKey<Long> RECEIVED_COUNT =
+      AttributeKey.longKey("grpc.received.message_count");
+  private static final AttributeKey<Long> RECEIVED_TOTAL_SIZE =
+      AttributeKey.longKey("grpc.received.message.total_size");
+  private static final AttributeKey<Long> RECEIVED_SIZE_P50 =
+      AttributeKey.longKey("grpc.received.message.size.p50");
+  private static final AttributeKey<Long> RECEIVED_SIZE_MAX =
+      AttributeKey.longKey("grpc.received.message.size.max");
+  private static final AttributeKey<Double> RECEIVED_GAP_MAX =
+      AttributeKey.doubleKey("grpc.received.message.gap.max");
+
+  // serialized sizes of Request("test") and Response("Hello test")
+  private static final long REQUEST_SIZE = 6;
+  private static final long RESPONSE_SIZE = 12;
+
+  private Server server;
+  private ManagedChannel channel;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (channel != null) {
+      channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+    }
+    if (server != null) {
+      server.shutdownNow().awaitTermination();
+    }
+  }
+
+  @Test
+  void aggregatesMessagesOfStreamingCall() throws Exception {
+    startServer();
+    channel =
+        AbstractGrpcTest.createChannel(
+            ManagedChannelBuilder.forAddress("localhost", server.getPort())
+                .intercept(telemetry().newClientInterceptor()));
+
+    Iterator<Helloworld.Response> responses =
+        GreeterGrpc.newBlockingStub(channel)
+            .sayMultipleHello(Helloworld.Request.newBuilder().setName("test").build());
+    int count = 0;
+    while (responses.hasNext()) {
+      assertThat(responses.next().getMessage()).isEqualTo("Hello test");
+      count++;
+    }
+    assertThat(count).isEqualTo(3);
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("example.Greeter/SayMultipleHello")
+                        .hasKind(SpanKind.CLIENT)
+                        .hasNoParent()
+                        .hasTotalRecordedEvents(0)
+                        .hasAttributesSatisfying(
+                            equalTo(SENT_COUNT, 1),
+                            equalTo(SENT_TOTAL_SIZE, REQUEST_SIZE),
+                            equalTo(SENT_SIZE_MAX, REQUEST_SIZE),
+                            equalTo(RECEIVED_COUNT, 3),
+                            equalTo(RECEIVED_TOTAL_SIZE, 3 * RESPONSE_SIZE),
+                            equalTo(RECEIVED_SIZE_P50, RESPONSE_SIZE),
+                            equalTo(RECEIVED_SIZE_MAX, RESPONSE_SIZE),
+                            satisfies(RECEIVED_GAP_MAX, gap -> gap.isNotNegative())),
+                span ->
+                    span.hasName("example.Greeter/SayMultipleHello")
+                        .hasKind(SpanKind.SERVER)
+                        .hasParent(trace.getSpan(0))
+                        .hasTotalRecordedEvents(0)
+                        .hasAttributesSatisfying(
+                            equalTo(RECEIVED_COUNT, 1),
+                            equalTo(RECEIVED_TOTAL_SIZE, REQUEST_SIZE),
+                            equalTo(SENT_COUNT, 3),
+                            equalTo(SENT_TOTAL_SIZE, 3 * RESPONSE_SIZE))));
+
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        messagesPerRpc("rpc.client.requests_per_rpc", "SayMultipleHello", 1, Status.Code.OK),
+        messagesPerRpc("rpc.client.responses_per_rpc", "SayMultipleHello", 3, Status.Code.OK),
+        messagesPerRpc("rpc.server.requests_per_rpc", "SayMultipleHello", 1, Status.Code.OK),
+        messagesPerRpc("rpc.server.responses_per_rpc", "SayMultipleHello", 3, Status.Code.OK));
+  }
+
+  @Test
+  void recordsStatsWhenClientCallFailsToStart() throws Exception {
+    startServer();
+    channel =
+        AbstractGrpcTest.createChannel(
+            ManagedChannelBuilder.forAddress("localhost", server.getPort())
+                // interceptors run in reverse order, so this one is called by the tracing one
+                .intercept(new FailingStartInterceptor())
+                .intercept(telemetry().newClientInterceptor()));
+
+    GreeterGrpc.GreeterBlockingStub client = GreeterGrpc.newBlockingStub(channel);
+    assertThatThrownBy(
+            () -> client.sayHello(Helloworld.Request.newBuilder().setName("test").build()))
+        .isInstanceOf(IllegalStateException.class);
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("example.Greeter/SayHello")
+                        .hasKind(SpanKind.CLIENT)
+                        .hasStatus(StatusData.error())
+                        .hasTotalRecordedEvents(0)
+                        .hasAttributesSatisfying(
+                            equalTo(SENT_COUNT, 0), equalTo(RECEIVED_COUNT, 0))));
+
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        messagesPerRpc("rpc.client.requests_per_rpc", "SayHello", 0, Status.Code.UNKNOWN),
+        messagesPerRpc("rpc.client.responses_per_rpc", "SayHello", 0, Status.Code.UNKNOWN));
+  }
+
+  private void startServer() throws Exception {
+    BindableService greeter =
+        new GreeterGrpc.GreeterImplBase() {
+          @Override
+          public void sayHello(
+              Helloworld.Request req, StreamObserver<Helloworld.Response> responseObserver) {
+            responseObserver.onNext(
+                Helloworld.Response.newBuilder().setMessage("Hello " + req.getName()).build());
+            responseObserver.onCompleted();
+          }
+
+          @Override
+          public void sayMultipleHello(
+              Helloworld.Request req, StreamObserver<Helloworld.Response> responseObserver) {
+            for (int i = 0; i < 3; i++) {
+              responseObserver.onNext(
+                  Helloworld.Response.newBuilder().setMessage("Hello " + req.getName()).build());
+            }
+            responseObserver.onCompleted();
+          }
+        };
+    server =
+        ServerBuilder.forPort(0)
+            .addService(greeter)
+            .intercept(telemetry().newServerInterceptor())
+            .build()
+            .start();
+  }
+
+  private static GrpcTelemetry telemetry() {
+    GrpcTelemetryBuilder builder = GrpcTelemetry.builder(testing.getOpenTelemetry());
+    Experimental.setEmitMessageStats(builder, true);
+    return builder.build();
+  }
+
+  private static Consumer<MetricAssert> messagesPerRpc(
+      String name, String method, long messages, Status.Code code) {
+    return metric ->
+        metric
+            .hasName(name)
+            .hasUnit("{count}")
+            .hasHistogramSatisfying(
+                histogram ->
+                    histogram.hasPointsSatisfying(
+                        point ->
+                            point
+                                .hasCount(1)
+                                .hasSum(messages)
+                                .hasAttributesSatisfying(
+                                    equalTo(RPC_METHOD, method),
+                                    equalTo(RPC_GRPC_STATUS_CODE, (long) code.value()))));
+  }
+
+  private static class FailingStartInterceptor implements ClientInterceptor {
+    @Override
+    public <REQUEST, RESPONSE> ClientCall<REQUEST, RESPONSE> interceptCall(
+        MethodDescriptor<REQUEST, RESPONSE> method, CallOptions callOptions, Channel next) {
+      return new ForwardingClientCall.SimpleForwardingClientCall<REQUEST, RESPONSE>(
+          next.newCall(method, callOptions)) {
+        @Override
+        public void start(Listener<RESPONSE> responseListener, Metadata headers) {
+          throw new IllegalStateException("failed to start");
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MessageStatsTest {
+
+  @Test
+  void sizePercentiles() {
+    MessageStats stats = new MessageStats(MessageStats.SENT);
+    for (long i = 0; i < 98; i++) {
+      stats.record(100L, i);
+    }
+    stats.record(5000L, 98);
+    stats.record(null, 99);
+
+    assertThat(stats.getCount()).isEqualTo(100);
+    // 100 has the bit length 7, so the upper bound of its bucket is 127
+    assertThat(stats.getSizePercentile(0.5)).isEqualTo(127);
+    assertThat(stats.getSizePercentile(0.99)).isEqualTo(5000);
+    assertThat(stats.getSizePercentile(1)).isEqualTo(5000);
+  }
+
+  @Test
+  void noSizes() {
+    MessageStats stats = new MessageStats(MessageStats.RECEIVED);
+    stats.record(null, 0);
+
+    assertThat(stats.getCount()).isEqualTo(1);
+    assertThat(stats.getSizePercentile(0.5)).isEqualTo(0);
+  }
+}
@@ -130,7 +130,7 @@ public class ConnectionInstrumentation implements TypeInstrumentation {
       }
 
       String originalSql = prepareContext.get();
-      JdbcData.preparedStatement.set(statement, originalSql);
+      JdbcData.setPreparedStatement(statement, originalSql);
     }
   }
 
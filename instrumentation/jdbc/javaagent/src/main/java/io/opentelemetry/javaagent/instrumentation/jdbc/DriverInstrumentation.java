@@ -12,8 +12,8 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.returns;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
 
-import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils;
 import io.opentelemetry.javaagent.bootstrap.jdbc.DbInfo;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
@@ -57,7 +57,7 @@ public class DriverInstrumentation implements TypeInstrumentation {
         // Exception was probably thrown.
         return;
       }
-      DbInfo dbInfo = JdbcConnectionUrlParser.parse(url, props);
+      DbInfo dbInfo = JdbcUtils.parseUrl(url, props);
       JdbcData.connectionInfo.set(connection, JdbcData.intern(dbInfo));
     }
   }
@@ -72,19 +72,19 @@ public class JdbcAdviceScope {
 
   private static DbRequest createBatchRequest(Statement statement) {
     if (statement instanceof PreparedStatement) {
-      String sql = JdbcData.preparedStatement.get((PreparedStatement) statement);
-      if (sql == null) {
+      PreparedStatement preparedStatement = (PreparedStatement) statement;
+      if (JdbcData.preparedStatement.get(preparedStatement) == null) {
         return null;
       }
-      Long batchSize = JdbcData.getPreparedStatementBatchSize((PreparedStatement) statement);
-      Map<String, String> parameters = JdbcData.getParameters((PreparedStatement) statement);
-      return DbRequest.create(statement, sql, batchSize, parameters);
+      Long batchSize = JdbcData.getPreparedStatementBatchSize(preparedStatement);
+      Map<String, String> parameters = JdbcData.getParameters(preparedStatement);
+      return DbRequest.create(preparedStatement, batchSize, parameters);
     } else {
       JdbcData.StatementBatchInfo batchInfo = JdbcData.getStatementBatchInfo(statement);
       if (batchInfo == null) {
         return DbRequest.create(statement, null);
       } else {
-        return DbRequest.create(statement, batchInfo.getStatements(), batchInfo.getBatchSize());
+        return DbRequest.create(statement, batchInfo);
       }
     }
   }
@@ -35,6 +35,8 @@ public final class JdbcSingletons {
       createDataSourceInstrumenter(GlobalOpenTelemetry.get(), true);
   private static final SqlCommenter SQL_COMMENTER = configureSqlCommenter();
   public static final boolean CAPTURE_QUERY_PARAMETERS;
+  // capturing query parameters disables statement sanitization
+  public static final boolean STATEMENT_SANITIZATION_ENABLED;
 
   static {
     AttributesExtractor<DbRequest, Void> peerServiceExtractor =
@@ -44,16 +46,19 @@ public final class JdbcSingletons {
     CAPTURE_QUERY_PARAMETERS =
         AgentInstrumentationConfig.get()
             .getBoolean("otel.instrumentation.jdbc.experimental.capture-query-parameters", false);
+    boolean statementSanitizationEnabled =
+        AgentInstrumentationConfig.get()
+            .getBoolean(
+                "otel.instrumentation.jdbc.statement-sanitizer.enabled",
+                AgentCommonConfig.get().isStatementSanitizationEnabled());
+    STATEMENT_SANITIZATION_ENABLED = statementSanitizationEnabled && !CAPTURE_QUERY_PARAMETERS;
 
     STATEMENT_INSTRUMENTER =
         JdbcInstrumenterFactory.createStatementInstrumenter(
             GlobalOpenTelemetry.get(),
             Collections.singletonList(peerServiceExtractor),
             true,
-            AgentInstrumentationConfig.get()
-                .getBoolean(
-                    "otel.instrumentation.jdbc.statement-sanitizer.enabled",
-                    AgentCommonConfig.get().isStatementSanitizationEnabled()),
+            statementSanitizationEnabled,
             CAPTURE_QUERY_PARAMETERS);
 
     TRANSACTION_INSTRUMENTER =
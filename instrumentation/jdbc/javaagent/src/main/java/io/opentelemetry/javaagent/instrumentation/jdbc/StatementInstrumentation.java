@@ -100,7 +100,8 @@ public class StatementInstrumentation implements TypeInstrumentation {
         return sql;
       }
 
-      JdbcData.addStatementBatch(statement, sql);
+      JdbcData.addStatementBatch(
+          statement, sql, JdbcSingletons.STATEMENT_SANITIZATION_ENABLED);
       return JdbcSingletons.processSql(statement, sql, true);
     }
   }
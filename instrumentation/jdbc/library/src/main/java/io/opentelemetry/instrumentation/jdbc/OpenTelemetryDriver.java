@@ -28,9 +28,10 @@ import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
 import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
-import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcInstrumenterFactory;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils;
 import io.opentelemetry.instrumentation.jdbc.internal.OpenTelemetryConnection;
+import io.opentelemetry.instrumentation.jdbc.internal.ResultSetTelemetry;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.sql.Connection;
 import java.sql.Driver;
@@ -251,7 +252,7 @@ public final class OpenTelemetryDriver implements Driver {
 
     Connection connection = wrappedDriver.connect(realUrl, info);
 
-    DbInfo dbInfo = JdbcConnectionUrlParser.parse(realUrl, info);
+    DbInfo dbInfo = JdbcUtils.parseUrl(realUrl, info);
 
     Instrumenter<DbRequest, Void> statementInstrumenter =
         JdbcInstrumenterFactory.createStatementInstrumenter(openTelemetry);
@@ -266,7 +267,9 @@ public final class OpenTelemetryDriver implements Driver {
         statementInstrumenter,
         transactionInstrumenter,
         captureQueryParameters,
-        sqlCommenter);
+        JdbcInstrumenterFactory.statementSanitizationEnabled(),
+        sqlCommenter,
+        ResultSetTelemetry.create(openTelemetry));
   }
 
   @Override
@@ -9,7 +9,9 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlCommenter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
+import io.opentelemetry.instrumentation.jdbc.internal.ResultSetTelemetry;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 
 /** Entrypoint for instrumenting a JDBC DataSources. */
@@ -29,19 +31,25 @@ public final class JdbcTelemetry {
   private final Instrumenter<DbRequest, Void> statementInstrumenter;
   private final Instrumenter<DbRequest, Void> transactionInstrumenter;
   private final boolean captureQueryParameters;
+  private final boolean statementSanitizationEnabled;
   private final SqlCommenter sqlCommenter;
+  @Nullable private final ResultSetTelemetry resultSetTelemetry;
 
   JdbcTelemetry(
       Instrumenter<DataSource, DbInfo> dataSourceInstrumenter,
       Instrumenter<DbRequest, Void> statementInstrumenter,
       Instrumenter<DbRequest, Void> transactionInstrumenter,
       boolean captureQueryParameters,
-      SqlCommenter sqlCommenter) {
+      boolean statementSanitizationEnabled,
+      SqlCommenter sqlCommenter,
+      @Nullable ResultSetTelemetry resultSetTelemetry) {
     this.dataSourceInstrumenter = dataSourceInstrumenter;
     this.statementInstrumenter = statementInstrumenter;
     this.transactionInstrumenter = transactionInstrumenter;
     this.captureQueryParameters = captureQueryParameters;
+    this.statementSanitizationEnabled = statementSanitizationEnabled;
     this.sqlCommenter = sqlCommenter;
+    this.resultSetTelemetry = resultSetTelemetry;
   }
 
   public DataSource wrap(DataSource dataSource) {
@@ -51,6 +59,8 @@ public final class JdbcTelemetry {
         this.statementInstrumenter,
         this.transactionInstrumenter,
         this.captureQueryParameters,
-        this.sqlCommenter);
+        this.statementSanitizationEnabled,
+        this.sqlCommenter,
+        this.resultSetTelemetry);
   }
 }
@@ -13,6 +13,7 @@ import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.jdbc.datasource.internal.Experimental;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcInstrumenterFactory;
+import io.opentelemetry.instrumentation.jdbc.internal.ResultSetTelemetry;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import javax.sql.DataSource;
 
@@ -26,9 +27,12 @@ public final class JdbcTelemetryBuilder {
   private boolean transactionInstrumenterEnabled = false;
   private boolean captureQueryParameters = false;
   private final SqlCommenterBuilder sqlCommenterBuilder = SqlCommenter.builder();
+  private boolean resultSetTelemetryEnabled = false;
 
   static {
     Experimental.internalSetSqlCommenterBuilder(builder -> builder.sqlCommenterBuilder);
+    Experimental.internalSetResultSetTelemetryEnabled(
+        (builder, enabled) -> builder.resultSetTelemetryEnabled = enabled);
   }
 
   JdbcTelemetryBuilder(OpenTelemetry openTelemetry) {
@@ -96,6 +100,8 @@ public final class JdbcTelemetryBuilder {
         statementInstrumenter,
         transactionInstrumenter,
         captureQueryParameters,
-        sqlCommenterBuilder.build());
+        statementSanitizationEnabled,
+        sqlCommenterBuilder.build(),
+        ResultSetTelemetry.create(openTelemetry, resultSetTelemetryEnabled));
   }
 }
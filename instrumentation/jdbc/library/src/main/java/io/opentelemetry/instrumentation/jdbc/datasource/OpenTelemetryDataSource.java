@@ -23,6 +23,7 @@ package io.opentelemetry.instrumentation.jdbc.datasource;
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcInstrumenterFactory.createDataSourceInstrumenter;
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcInstrumenterFactory.createStatementInstrumenter;
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcInstrumenterFactory.createTransactionInstrumenter;
+import static io.opentelemetry.instrumentation.jdbc.internal.JdbcInstrumenterFactory.statementSanitizationEnabled;
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.computeDbInfo;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
@@ -34,6 +35,7 @@ import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlCom
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
 import io.opentelemetry.instrumentation.jdbc.internal.OpenTelemetryConnection;
+import io.opentelemetry.instrumentation.jdbc.internal.ResultSetTelemetry;
 import io.opentelemetry.instrumentation.jdbc.internal.ThrowingSupplier;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.io.PrintWriter;
@@ -41,6 +43,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 
 /** OpenTelemetry {@link DataSource} implementation. */
@@ -51,7 +54,9 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
   private final Instrumenter<DbRequest, Void> statementInstrumenter;
   private final Instrumenter<DbRequest, Void> transactionInstrumenter;
   private final boolean captureQueryParameters;
+  private final boolean statementSanitizationEnabled;
   private final SqlCommenter sqlCommenter;
+  @Nullable private final ResultSetTelemetry resultSetTelemetry;
   private volatile DbInfo cachedDbInfo;
 
   /**
@@ -78,7 +83,9 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
     this.statementInstrumenter = createStatementInstrumenter(openTelemetry);
     this.transactionInstrumenter = createTransactionInstrumenter(openTelemetry, false);
     this.captureQueryParameters = false;
+    this.statementSanitizationEnabled = statementSanitizationEnabled();
     this.sqlCommenter = SqlCommenter.noop();
+    this.resultSetTelemetry = null;
   }
 
   /**
@@ -87,8 +94,10 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
    * @param delegate the DataSource to wrap
    * @param dataSourceInstrumenter the DataSource Instrumenter to use
    * @param statementInstrumenter the Statement Instrumenter to use
+   * @param statementSanitizationEnabled whether the statement instrumenter sanitizes statements
    * @param sqlCommenter helper class for augment sql queries with a comment containing the tracing
    *     information
+   * @param resultSetTelemetry records the rows read from result sets, {@code null} when disabled
    */
   OpenTelemetryDataSource(
       DataSource delegate,
@@ -96,13 +105,17 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
       Instrumenter<DbRequest, Void> statementInstrumenter,
       Instrumenter<DbRequest, Void> transactionInstrumenter,
       boolean captureQueryParameters,
-      SqlCommenter sqlCommenter) {
+      boolean statementSanitizationEnabled,
+      SqlCommenter sqlCommenter,
+      @Nullable ResultSetTelemetry resultSetTelemetry) {
     this.delegate = delegate;
     this.dataSourceInstrumenter = dataSourceInstrumenter;
     this.statementInstrumenter = statementInstrumenter;
     this.transactionInstrumenter = transactionInstrumenter;
     this.captureQueryParameters = captureQueryParameters;
+    this.statementSanitizationEnabled = statementSanitizationEnabled;
     this.sqlCommenter = sqlCommenter;
+    this.resultSetTelemetry = resultSetTelemetry;
   }
 
   @Override
@@ -115,7 +128,9 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
         statementInstrumenter,
         transactionInstrumenter,
         captureQueryParameters,
-        sqlCommenter);
+        statementSanitizationEnabled,
+        sqlCommenter,
+        resultSetTelemetry);
   }
 
   @Override
@@ -128,7 +143,9 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
         statementInstrumenter,
         transactionInstrumenter,
         captureQueryParameters,
-        sqlCommenter);
+        statementSanitizationEnabled,
+        sqlCommenter,
+        resultSetTelemetry);
   }
 
   @Override
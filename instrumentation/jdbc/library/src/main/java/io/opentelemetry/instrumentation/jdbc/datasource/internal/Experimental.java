@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.jdbc.datasource.internal;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlCommenterBuilder;
 import io.opentelemetry.instrumentation.jdbc.datasource.JdbcTelemetryBuilder;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 
@@ -21,6 +22,9 @@ public final class Experimental {
   @Nullable
   private static volatile Function<JdbcTelemetryBuilder, SqlCommenterBuilder> sqlCommenterBuilder;
 
+  @Nullable
+  private static volatile BiConsumer<JdbcTelemetryBuilder, Boolean> setResultSetTelemetryEnabled;
+
   /**
    * Sets whether to augment sql query with comment containing the tracing information. See <a
    * href="https://google.github.io/sqlcommenter/">sqlcommenter</a> for more info.
@@ -65,10 +69,27 @@ public final class Experimental {
     }
   }
 
+  /**
+   * Sets whether the number of rows read from result sets and the time spent reading them are
+   * recorded as the {@code db.client.response.returned_rows} and the experimental {@code
+   * jdbc.result_set.fetch.duration} histograms. Disabled by default.
+   */
+  public static void setResultSetTelemetryEnabled(
+      JdbcTelemetryBuilder builder, boolean resultSetTelemetryEnabled) {
+    if (setResultSetTelemetryEnabled != null) {
+      setResultSetTelemetryEnabled.accept(builder, resultSetTelemetryEnabled);
+    }
+  }
+
   public static void internalSetSqlCommenterBuilder(
       Function<JdbcTelemetryBuilder, SqlCommenterBuilder> sqlCommenterBuilder) {
     Experimental.sqlCommenterBuilder = sqlCommenterBuilder;
   }
 
+  public static void internalSetResultSetTelemetryEnabled(
+      BiConsumer<JdbcTelemetryBuilder, Boolean> setResultSetTelemetryEnabled) {
+    Experimental.setResultSetTelemetryEnabled = setResultSetTelemetryEnabled;
+  }
+
   private Experimental() {}
 }
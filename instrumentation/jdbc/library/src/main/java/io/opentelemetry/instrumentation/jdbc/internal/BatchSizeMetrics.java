@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static io.opentelemetry.semconv.DbAttributes.DB_COLLECTION_NAME;
+import static io.opentelemetry.semconv.DbAttributes.DB_NAMESPACE;
+import static io.opentelemetry.semconv.DbAttributes.DB_OPERATION_BATCH_SIZE;
+import static io.opentelemetry.semconv.DbAttributes.DB_OPERATION_NAME;
+import static io.opentelemetry.semconv.DbAttributes.DB_SYSTEM_NAME;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_ADDRESS;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_PORT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
+import io.opentelemetry.instrumentation.api.internal.SemconvStability;
+import java.util.List;
+
+/**
+ * {@link OperationListener} which records the number of statements of batch executions as the
+ * {@code db.client.operation.batch.size} histogram. The size is taken from the {@code
+ * db.operation.batch.size} attribute, so like the other database client metrics it's only recorded
+ * with the stable database semantic conventions. Statements that aren't executed as a batch aren't
+ * recorded.
+ */
+final class BatchSizeMetrics implements OperationListener {
+
+  private static final List<Long> BATCH_SIZE_BUCKETS =
+      unmodifiableList(
+          asList(2L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L, 25000L));
+
+  private static final List<AttributeKey<?>> ATTRIBUTE_KEYS =
+      unmodifiableList(
+          asList(
+              DB_SYSTEM_NAME,
+              DB_NAMESPACE,
+              DB_OPERATION_NAME,
+              DB_COLLECTION_NAME,
+              SERVER_ADDRESS,
+              SERVER_PORT));
+
+  static OperationMetrics get() {
+    if (SemconvStability.emitStableDatabaseSemconv()) {
+      return OperationMetricsUtil.create("database client batch size", BatchSizeMetrics::new);
+    }
+    return meter -> OperationMetricsUtil.NOOP_OPERATION_LISTENER;
+  }
+
+  private final LongHistogram batchSize;
+
+  private BatchSizeMetrics(Meter meter) {
+    batchSize =
+        meter
+            .histogramBuilder("db.client.operation.batch.size")
+            .ofLongs()
+            .setUnit("{statement}")
+            .setDescription("The number of statements of database client batch operations.")
+            .setExplicitBucketBoundariesAdvice(BATCH_SIZE_BUCKETS)
+            .build();
+  }
+
+  @Override
+  public Context onStart(Context context, Attributes startAttributes, long startNanos) {
+    // the batch size is known when the operation starts, there's nothing to keep until it ends
+    Long size = startAttributes.get(DB_OPERATION_BATCH_SIZE);
+    if (size != null) {
+      batchSize.record(size, filter(startAttributes), context);
+    }
+    return context;
+  }
+
+  @Override
+  public void onEnd(Context context, Attributes endAttributes, long endNanos) {}
+
+  @SuppressWarnings("unchecked")
+  private static Attributes filter(Attributes attributes) {
+    AttributesBuilder builder = Attributes.builder();
+    for (AttributeKey<?> key : ATTRIBUTE_KEYS) {
+      Object value = attributes.get(key);
+      if (value != null) {
+        builder.put((AttributeKey<Object>) key, value);
+      }
+    }
+    return builder.build();
+  }
+}
@@ -10,6 +10,7 @@ import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.extractDb
 import static java.util.Collections.emptyMap;
 
 import com.google.auto.value.AutoValue;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlStatementInfo;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -29,21 +30,31 @@ public abstract class DbRequest {
   @Nullable
   public static DbRequest create(
       PreparedStatement statement, Map<String, String> preparedStatementParameters) {
-    return create(
-        statement, JdbcData.preparedStatement.get(statement), preparedStatementParameters);
+    return create(statement, null, preparedStatementParameters);
   }
 
   @Nullable
-  public static DbRequest create(Statement statement, String dbStatementString) {
-    return create(statement, dbStatementString, null, emptyMap());
+  public static DbRequest create(
+      PreparedStatement statement,
+      Long batchSize,
+      Map<String, String> preparedStatementParameters) {
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null) {
+      return null;
+    }
+
+    // the sql was sanitized when the statement was prepared
+    return create(
+        extractDbInfo(connection),
+        JdbcData.preparedStatement.get(statement),
+        JdbcData.getSanitizedPreparedStatement(statement),
+        batchSize,
+        preparedStatementParameters);
   }
 
   @Nullable
-  private static DbRequest create(
-      Statement statement,
-      String dbStatementString,
-      Map<String, String> preparedStatementParameters) {
-    return create(statement, dbStatementString, null, preparedStatementParameters);
+  public static DbRequest create(Statement statement, String dbStatementString) {
+    return create(statement, dbStatementString, null, emptyMap());
   }
 
   @Nullable
@@ -61,14 +72,26 @@ public abstract class DbRequest {
         extractDbInfo(connection), dbStatementString, batchSize, preparedStatementParameters);
   }
 
-  public static DbRequest create(
-      Statement statement, Collection<String> queryTexts, Long batchSize) {
+  @Nullable
+  public static DbRequest create(Statement statement, JdbcData.StatementBatchInfo batchInfo) {
     Connection connection = connectionFromStatement(statement);
     if (connection == null) {
       return null;
     }
 
-    return create(extractDbInfo(connection), queryTexts, batchSize, emptyMap());
+    return create(extractDbInfo(connection), batchInfo);
+  }
+
+  public static DbRequest create(DbInfo dbInfo, JdbcData.StatementBatchInfo batchInfo) {
+    return new AutoValue_DbRequest(
+        dbInfo,
+        batchInfo.getStatements(),
+        batchInfo.getBatchSize(),
+        null,
+        emptyMap(),
+        null,
+        /* multiQueryBatch= */ true,
+        batchInfo.isTruncated());
   }
 
   public static DbRequest create(DbInfo dbInfo, String queryText) {
@@ -80,8 +103,22 @@ public abstract class DbRequest {
       String queryText,
       Long batchSize,
       Map<String, String> preparedStatementParameters) {
+    return create(dbInfo, queryText, null, batchSize, preparedStatementParameters);
+  }
+
+  public static DbRequest create(
+      DbInfo dbInfo,
+      String queryText,
+      @Nullable SqlStatementInfo sanitizedQueryText,
+      Long batchSize,
+      Map<String, String> preparedStatementParameters) {
     return create(
-        dbInfo, Collections.singletonList(queryText), batchSize, preparedStatementParameters);
+        dbInfo,
+        Collections.singletonList(queryText),
+        sanitizedQueryText,
+        batchSize,
+        null,
+        preparedStatementParameters);
   }
 
   public static DbRequest create(
@@ -89,17 +126,25 @@ public abstract class DbRequest {
       Collection<String> queryTexts,
       Long batchSize,
       Map<String, String> preparedStatementParameters) {
-    return create(dbInfo, queryTexts, batchSize, null, preparedStatementParameters);
+    return create(dbInfo, queryTexts, null, batchSize, null, preparedStatementParameters);
   }
 
   private static DbRequest create(
       DbInfo dbInfo,
       Collection<String> queryTexts,
+      @Nullable SqlStatementInfo sanitizedQueryText,
       Long batchSize,
       String operation,
       Map<String, String> preparedStatementParameters) {
     return new AutoValue_DbRequest(
-        dbInfo, queryTexts, batchSize, operation, preparedStatementParameters);
+        dbInfo,
+        queryTexts,
+        batchSize,
+        operation,
+        preparedStatementParameters,
+        sanitizedQueryText,
+        /* multiQueryBatch= */ false,
+        /* queryTextsTruncated= */ false);
   }
 
   @Nullable
@@ -113,7 +158,7 @@ public abstract class DbRequest {
   }
 
   public static DbRequest createTransaction(DbInfo dbInfo, String operation) {
-    return create(dbInfo, Collections.emptyList(), null, operation, emptyMap());
+    return create(dbInfo, Collections.emptyList(), null, null, operation, emptyMap());
   }
 
   public abstract DbInfo getDbInfo();
@@ -128,4 +173,14 @@ public abstract class DbRequest {
   public abstract String getOperation();
 
   public abstract Map<String, String> getPreparedStatementParameters();
+
+  // sanitized form of the single query text, computed when a prepared statement is created
+  @Nullable
+  public abstract SqlStatementInfo getSanitizedQueryText();
+
+  // whether the query texts are the distinct statements added to a statement batch
+  public abstract boolean isMultiQueryBatch();
+
+  // whether some distinct statements of the statement batch were left out of the query texts
+  public abstract boolean isQueryTextsTruncated();
 }
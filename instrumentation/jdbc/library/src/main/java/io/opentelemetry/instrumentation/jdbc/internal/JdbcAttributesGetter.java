@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.jdbc.internal;
 
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlStatementInfo;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -52,6 +53,22 @@ public final class JdbcAttributesGetter implements SqlClientAttributesGetter<DbR
     return request.getQueryTexts();
   }
 
+  @Nullable
+  @Override
+  public SqlStatementInfo getSanitizedQueryText(DbRequest request) {
+    return request.getSanitizedQueryText();
+  }
+
+  @Override
+  public boolean isMultiQueryBatch(DbRequest request) {
+    return request.isMultiQueryBatch();
+  }
+
+  @Override
+  public boolean isRawQueryTextsTruncated(DbRequest request) {
+    return request.isQueryTextsTruncated();
+  }
+
   @Override
   public Long getBatchSize(DbRequest request) {
     return request.getBatchSize();
@@ -5,19 +5,21 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlStatementInfo;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlStatementSanitizer;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
+import javax.annotation.Nullable;
 
 /**
  * Holds info associated with JDBC connections and prepared statements.
@@ -28,10 +30,15 @@ import java.util.WeakHashMap;
 public final class JdbcData {
 
   private static final Map<DbInfo, WeakReference<DbInfo>> dbInfos = new WeakHashMap<>();
+  // same configuration as the sanitizer used by SqlClientAttributesExtractor
+  private static final SqlStatementSanitizer sanitizer = SqlStatementSanitizer.create(true);
   public static final VirtualField<Connection, DbInfo> connectionInfo =
       VirtualField.find(Connection.class, DbInfo.class);
   public static final VirtualField<PreparedStatement, String> preparedStatement =
       VirtualField.find(PreparedStatement.class, String.class);
+  private static final VirtualField<PreparedStatement, SqlStatementInfo>
+      sanitizedPreparedStatement =
+          VirtualField.find(PreparedStatement.class, SqlStatementInfo.class);
   private static final VirtualField<Statement, StatementBatchInfo> statementBatch =
       VirtualField.find(Statement.class, StatementBatchInfo.class);
   private static final VirtualField<PreparedStatement, PreparedStatementBatchInfo>
@@ -64,10 +71,32 @@ public final class JdbcData {
     }
   }
 
-  public static void addStatementBatch(Statement statement, String sql) {
+  /**
+   * Associates the sql of a prepared statement with the statement. The sql is sanitized here, once
+   * for every prepared statement, so that executing the statement doesn't have to look it up in the
+   * sanitizer cache again.
+   */
+  public static void setPreparedStatement(PreparedStatement statement, String sql) {
+    preparedStatement.set(statement, sql);
+    sanitizedPreparedStatement.set(statement, sanitize(sql));
+  }
+
+  @Nullable
+  public static SqlStatementInfo getSanitizedPreparedStatement(PreparedStatement statement) {
+    return sanitizedPreparedStatement.get(statement);
+  }
+
+  /** Sanitizes the sql of a prepared statement when the statement is created. */
+  @Nullable
+  static SqlStatementInfo sanitize(@Nullable String sql) {
+    return sql != null ? sanitizer.sanitize(sql) : null;
+  }
+
+  public static void addStatementBatch(
+      Statement statement, String sql, boolean statementSanitizationEnabled) {
     StatementBatchInfo batchInfo = statementBatch.get(statement);
     if (batchInfo == null) {
-      batchInfo = new StatementBatchInfo();
+      batchInfo = new StatementBatchInfo(statementSanitizationEnabled);
       statementBatch.set(statement, batchInfo);
     }
     batchInfo.add(sql);
@@ -106,6 +135,7 @@ public final class JdbcData {
     if (statement instanceof PreparedStatement) {
       PreparedStatement prepared = (PreparedStatement) statement;
       preparedStatement.set(prepared, null);
+      sanitizedPreparedStatement.set(prepared, null);
       preparedStatementBatch.set(prepared, null);
       parameters.set(prepared, null);
     }
@@ -138,18 +168,61 @@ public final class JdbcData {
    * any time.
    */
   public static final class StatementBatchInfo {
-    private final List<String> statements = new ArrayList<>();
+    // batches usually repeat a few statements with different literals, this bounds the memory
+    // retained for batches that don't
+    static final int MAX_DISTINCT_STATEMENTS = 1024;
+
+    private final boolean statementSanitizationEnabled;
+    // the first added sql for every distinct statement, keyed by the sanitized statement when
+    // statements are sanitized, as only the sanitized statements are reported then
+    private final Map<String, String> statements = new LinkedHashMap<>();
+    private boolean truncated;
+    private long batchSize;
+
+    StatementBatchInfo(boolean statementSanitizationEnabled) {
+      this.statementSanitizationEnabled = statementSanitizationEnabled;
+    }
 
     void add(String sql) {
-      statements.add(sql);
+      batchSize++;
+      String key = sql;
+      if (statementSanitizationEnabled) {
+        SqlStatementInfo sanitized = sanitize(sql);
+        if (sanitized != null && sanitized.getFullStatement() != null) {
+          key = sanitized.getFullStatement();
+        }
+      }
+      if (statements.containsKey(key)) {
+        return;
+      }
+      if (statements.size() >= MAX_DISTINCT_STATEMENTS) {
+        truncated = true;
+        return;
+      }
+      statements.put(key, sql);
     }
 
+    void clear() {
+      statements.clear();
+      truncated = false;
+      batchSize = 0;
+    }
+
+    /**
+     * Returns one of the added statements for every distinct statement of the batch, at most
+     * {@link #MAX_DISTINCT_STATEMENTS}.
+     */
     public Collection<String> getStatements() {
-      return statements;
+      return statements.values();
+    }
+
+    /** Returns whether some distinct statements were left out of {@link #getStatements()}. */
+    public boolean isTruncated() {
+      return truncated;
     }
 
     public long getBatchSize() {
-      return statements.size();
+      return batchSize;
     }
   }
 
@@ -33,6 +33,11 @@ public final class JdbcInstrumenterFactory {
         "otel.instrumentation.jdbc.experimental.capture-query-parameters", false);
   }
 
+  public static boolean statementSanitizationEnabled() {
+    return ConfigPropertiesUtil.getBoolean(
+        "otel.instrumentation.common.db-statement-sanitizer.enabled", true);
+  }
+
   public static Instrumenter<DbRequest, Void> createStatementInstrumenter(
       OpenTelemetry openTelemetry) {
     return createStatementInstrumenter(openTelemetry, captureQueryParameters());
@@ -41,12 +46,7 @@ public final class JdbcInstrumenterFactory {
   static Instrumenter<DbRequest, Void> createStatementInstrumenter(
       OpenTelemetry openTelemetry, boolean captureQueryParameters) {
     return createStatementInstrumenter(
-        openTelemetry,
-        emptyList(),
-        true,
-        ConfigPropertiesUtil.getBoolean(
-            "otel.instrumentation.common.db-statement-sanitizer.enabled", true),
-        captureQueryParameters);
+        openTelemetry, emptyList(), true, statementSanitizationEnabled(), captureQueryParameters);
   }
 
   public static Instrumenter<DbRequest, Void> createStatementInstrumenter(
@@ -75,6 +75,7 @@ public final class JdbcInstrumenterFactory {
                 .build())
         .addAttributesExtractors(extractors)
         .addOperationMetrics(DbClientMetrics.get())
+        .addOperationMetrics(BatchSizeMetrics.get())
         .setEnabled(enabled)
         .buildInstrumenter(SpanKindExtractor.alwaysClient());
   }
@@ -7,12 +7,14 @@ package io.opentelemetry.instrumentation.jdbc.internal;
 
 import static java.util.logging.Level.FINE;
 
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Properties;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
 
@@ -26,6 +28,14 @@ public final class JdbcUtils {
 
   @Nullable private static Field c3poField = null;
 
+  // the connections of a pool usually share the same url, when a pool replaces its connections the
+  // db info of the new connections is looked up here instead of parsing the url again
+  private static final Cache<String, DbInfo> dbInfoByUrl = Cache.bounded(64);
+  // the connection properties that JdbcConnectionUrlParser uses
+  private static final String[] DB_INFO_PROPERTIES = {
+    "user", "databasename", "databaseName", "servername", "serverName", "portnumber", "portNumber"
+  };
+
   public static Connection connectionFromStatement(Statement statement) {
     try {
       return unwrapConnection(statement.getConnection());
@@ -106,10 +116,10 @@ public final class JdbcUtils {
       String url = metaData.getURL();
       if (url != null) {
         try {
-          return JdbcConnectionUrlParser.parse(url, connection.getClientInfo());
+          return parseUrl(url, connection.getClientInfo());
         } catch (Throwable ex) {
           // getClientInfo is likely not allowed.
-          return JdbcConnectionUrlParser.parse(url, null);
+          return parseUrl(url, null);
         }
       } else {
         return DbInfo.DEFAULT;
@@ -119,5 +129,35 @@ public final class JdbcUtils {
     }
   }
 
+  /**
+   * Returns the db info parsed from the given url and connection properties. The result is cached
+   * by the url and the properties that the parser uses, other properties like the password aren't
+   * part of the cache key.
+   */
+  public static DbInfo parseUrl(@Nullable String url, @Nullable Properties props) {
+    if (url == null) {
+      return DbInfo.DEFAULT;
+    }
+    return dbInfoByUrl.computeIfAbsent(
+        cacheKey(url, props), unused -> JdbcConnectionUrlParser.parse(url, props));
+  }
+
+  private static String cacheKey(String url, @Nullable Properties props) {
+    if (props == null || props.isEmpty()) {
+      return url;
+    }
+    StringBuilder key = null;
+    for (String name : DB_INFO_PROPERTIES) {
+      Object value = props.get(name);
+      if (value != null) {
+        if (key == null) {
+          key = new StringBuilder(url);
+        }
+        key.append('\0').append(name).append('=').append(value);
+      }
+    }
+    return key != null ? key.toString() : url;
+  }
+
   private JdbcUtils() {}
 }
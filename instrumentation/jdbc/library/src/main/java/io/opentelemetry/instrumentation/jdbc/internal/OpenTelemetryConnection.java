@@ -44,6 +44,7 @@ import java.sql.Struct;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -57,7 +58,9 @@ public class OpenTelemetryConnection implements Connection {
   protected final Instrumenter<DbRequest, Void> statementInstrumenter;
   protected final Instrumenter<DbRequest, Void> transactionInstrumenter;
   private final boolean captureQueryParameters;
+  private final boolean statementSanitizationEnabled;
   protected final SqlCommenter sqlCommenter;
+  @Nullable private final ResultSetTelemetry resultSetTelemetry;
 
   protected OpenTelemetryConnection(
       Connection delegate,
@@ -66,12 +69,35 @@ public class OpenTelemetryConnection implements Connection {
       Instrumenter<DbRequest, Void> transactionInstrumenter,
       boolean captureQueryParameters,
       SqlCommenter sqlCommenter) {
+    this(
+        delegate,
+        dbInfo,
+        statementInstrumenter,
+        transactionInstrumenter,
+        captureQueryParameters,
+        true,
+        sqlCommenter,
+        null);
+  }
+
+  protected OpenTelemetryConnection(
+      Connection delegate,
+      DbInfo dbInfo,
+      Instrumenter<DbRequest, Void> statementInstrumenter,
+      Instrumenter<DbRequest, Void> transactionInstrumenter,
+      boolean captureQueryParameters,
+      boolean statementSanitizationEnabled,
+      SqlCommenter sqlCommenter,
+      @Nullable ResultSetTelemetry resultSetTelemetry) {
     this.delegate = delegate;
     this.dbInfo = dbInfo;
     this.statementInstrumenter = statementInstrumenter;
     this.transactionInstrumenter = transactionInstrumenter;
     this.captureQueryParameters = captureQueryParameters;
+    // capturing query parameters disables statement sanitization
+    this.statementSanitizationEnabled = statementSanitizationEnabled && !captureQueryParameters;
     this.sqlCommenter = sqlCommenter;
+    this.resultSetTelemetry = resultSetTelemetry;
   }
 
   // visible for testing
@@ -91,6 +117,26 @@ public class OpenTelemetryConnection implements Connection {
       Instrumenter<DbRequest, Void> transactionInstrumenter,
       boolean captureQueryParameters,
       SqlCommenter sqlCommenter) {
+    return create(
+        delegate,
+        dbInfo,
+        statementInstrumenter,
+        transactionInstrumenter,
+        captureQueryParameters,
+        true,
+        sqlCommenter,
+        null);
+  }
+
+  public static Connection create(
+      Connection delegate,
+      DbInfo dbInfo,
+      Instrumenter<DbRequest, Void> statementInstrumenter,
+      Instrumenter<DbRequest, Void> transactionInstrumenter,
+      boolean captureQueryParameters,
+      boolean statementSanitizationEnabled,
+      SqlCommenter sqlCommenter,
+      @Nullable ResultSetTelemetry resultSetTelemetry) {
     if (hasJdbc43) {
       return new OpenTelemetryConnectionJdbc43(
           delegate,
@@ -98,7 +144,9 @@ public class OpenTelemetryConnection implements Connection {
           statementInstrumenter,
           transactionInstrumenter,
           captureQueryParameters,
-          sqlCommenter);
+          statementSanitizationEnabled,
+          sqlCommenter,
+          resultSetTelemetry);
     }
     return new OpenTelemetryConnection(
         delegate,
@@ -106,7 +154,9 @@ public class OpenTelemetryConnection implements Connection {
         statementInstrumenter,
         transactionInstrumenter,
         captureQueryParameters,
-        sqlCommenter);
+        statementSanitizationEnabled,
+        sqlCommenter,
+        resultSetTelemetry);
   }
 
   private String processQuery(String sql) {
@@ -444,6 +494,15 @@ public class OpenTelemetryConnection implements Connection {
     return dbInfo;
   }
 
+  @Nullable
+  ResultSetTelemetry getResultSetTelemetry() {
+    return resultSetTelemetry;
+  }
+
+  boolean isStatementSanitizationEnabled() {
+    return statementSanitizationEnabled;
+  }
+
   // JDBC 4.3
   static class OpenTelemetryConnectionJdbc43 extends OpenTelemetryConnection {
     OpenTelemetryConnectionJdbc43(
@@ -452,14 +511,18 @@ public class OpenTelemetryConnection implements Connection {
         Instrumenter<DbRequest, Void> statementInstrumenter,
         Instrumenter<DbRequest, Void> transactionInstrumenter,
         boolean captureQueryParameters,
-        SqlCommenter sqlCommenter) {
+        boolean statementSanitizationEnabled,
+        SqlCommenter sqlCommenter,
+        @Nullable ResultSetTelemetry resultSetTelemetry) {
       super(
           delegate,
           dbInfo,
           statementInstrumenter,
           transactionInstrumenter,
           captureQueryParameters,
-          sqlCommenter);
+          statementSanitizationEnabled,
+          sqlCommenter,
+          resultSetTelemetry);
     }
 
     @SuppressWarnings("Since15")
@@ -20,6 +20,7 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlStatementInfo;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlCommenter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
@@ -46,12 +47,16 @@ import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
 
 @SuppressWarnings("OverloadMethodsDeclarationOrder")
 class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTelemetryStatement<S>
     implements PreparedStatement {
   private final boolean captureQueryParameters;
   private final Map<String, String> parameters;
+  // the query is sanitized once when the statement is prepared instead of on every execution
+  @Nullable private final SqlStatementInfo sanitizedQuery;
 
   public OpenTelemetryPreparedStatement(
       S delegate,
@@ -64,6 +69,7 @@ class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTe
     super(delegate, connection, dbInfo, query, instrumenter, sqlCommenter);
     this.captureQueryParameters = captureQueryParameters;
     this.parameters = new HashMap<>();
+    this.sanitizedQuery = JdbcData.sanitize(query);
   }
 
   private void putParameter(int index, Object value) {
@@ -96,7 +102,7 @@ class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTe
 
   @Override
   public ResultSet executeQuery() throws SQLException {
-    return OpenTelemetryResultSet.wrap(wrapCall(query, delegate::executeQuery), this);
+    return wrapResultSet(wrapCall(query, delegate::executeQuery));
   }
 
   @Override
@@ -429,12 +435,14 @@ class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTe
   @Override
   protected <T, E extends Exception> T wrapCall(String sql, ThrowingSupplier<T, E> callable)
       throws E {
-    DbRequest request = DbRequest.create(dbInfo, sql, null, parameters);
+    // the execute methods inherited from Statement may run a different sql
+    SqlStatementInfo sanitizedSql = Objects.equals(sql, query) ? sanitizedQuery : null;
+    DbRequest request = DbRequest.create(dbInfo, sql, sanitizedSql, null, parameters);
     return wrapCall(request, callable);
   }
 
   private <T, E extends Exception> T wrapBatchCall(ThrowingSupplier<T, E> callable) throws E {
-    DbRequest request = DbRequest.create(dbInfo, query, batchSize, parameters);
+    DbRequest request = DbRequest.create(dbInfo, query, sanitizedQuery, batchSize, parameters);
     return wrapCall(request, callable);
   }
 
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
+import io.opentelemetry.context.Context;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -27,33 +28,75 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.Map;
+import javax.annotation.Nullable;
 
 @SuppressWarnings({"UngroupedOverloads", "OverloadMethodsDeclarationOrder"})
 class OpenTelemetryResultSet implements ResultSet {
 
   private final ResultSet delegate;
-  private final Statement statement;
-
-  private OpenTelemetryResultSet(ResultSet delegate, Statement statement) {
+  private final OpenTelemetryStatement<?> statement;
+  @Nullable private final ResultSetTelemetry telemetry;
+  // captured when wrapping, the statement may be executed again before this result set is closed
+  @Nullable private final Context context;
+
+  // only updated when telemetry is enabled, kept as primitives so that next() doesn't allocate
+  private long rows;
+  private long fetchNanos;
+  private boolean recorded;
+
+  private OpenTelemetryResultSet(
+      ResultSet delegate, OpenTelemetryStatement<?> statement, boolean recordTelemetry) {
     this.delegate = delegate;
     this.statement = statement;
+    this.telemetry = recordTelemetry ? statement.getResultSetTelemetry() : null;
+    this.context = telemetry != null ? statement.getResultSetContext() : null;
+  }
+
+  public static ResultSet wrap(ResultSet delegate, OpenTelemetryStatement<?> statement) {
+    if (delegate == null) {
+      return null;
+    }
+    return new OpenTelemetryResultSet(delegate, statement, true);
   }
 
-  public static ResultSet wrap(ResultSet delegate, Statement statement) {
+  /** Wraps generated keys, which are not rows returned by the statement and aren't recorded. */
+  public static ResultSet wrapGeneratedKeys(
+      ResultSet delegate, OpenTelemetryStatement<?> statement) {
     if (delegate == null) {
       return null;
     }
-    return new OpenTelemetryResultSet(delegate, statement);
+    return new OpenTelemetryResultSet(delegate, statement, false);
   }
 
   @Override
   public boolean next() throws SQLException {
-    return delegate.next();
+    if (telemetry == null) {
+      return delegate.next();
+    }
+    long startNanos = System.nanoTime();
+    boolean hasNext;
+    try {
+      hasNext = delegate.next();
+    } finally {
+      fetchNanos += System.nanoTime() - startNanos;
+    }
+    if (hasNext) {
+      rows++;
+    }
+    return hasNext;
   }
 
   @Override
   public void close() throws SQLException {
-    delegate.close();
+    try {
+      delegate.close();
+    } finally {
+      // close() may be called more than once, record the result set only the first time
+      if (telemetry != null && !recorded) {
+        recorded = true;
+        statement.recordResultSet(context, rows, fetchNanos);
+      }
+    }
   }
 
   @Override
@@ -30,9 +30,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import javax.annotation.Nullable;
 
 class OpenTelemetryStatement<S extends Statement> implements Statement {
 
@@ -43,8 +41,13 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
   protected final Instrumenter<DbRequest, Void> instrumenter;
   protected final SqlCommenter sqlCommenter;
 
-  private final List<String> batchCommands = new ArrayList<>();
+  private final JdbcData.StatementBatchInfo batchCommands;
   protected long batchSize;
+  // context of the last executed statement, only kept when result set telemetry is enabled
+  @Nullable private Context lastContext;
+  // current result of the last executed statement and its wrapper
+  @Nullable private ResultSet resultSet;
+  @Nullable private ResultSet wrappedResultSet;
 
   OpenTelemetryStatement(
       S delegate,
@@ -68,6 +71,8 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
     this.query = query;
     this.instrumenter = instrumenter;
     this.sqlCommenter = sqlCommenter;
+    this.batchCommands =
+        new JdbcData.StatementBatchInfo(connection.isStatementSanitizationEnabled());
   }
 
   private String processQuery(String sql) {
@@ -77,7 +82,7 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
   @Override
   public ResultSet executeQuery(String sql) throws SQLException {
     String processedSql = processQuery(sql);
-    return wrapCall(sql, () -> delegate.executeQuery(processedSql));
+    return wrapResultSet(wrapCall(sql, () -> delegate.executeQuery(processedSql)));
   }
 
   @Override
@@ -136,6 +141,9 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
   @Override
   public void close() throws SQLException {
     JdbcData.close(this);
+    lastContext = null;
+    resultSet = null;
+    wrappedResultSet = null;
     delegate.close();
   }
 
@@ -196,7 +204,7 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   @Override
   public ResultSet getResultSet() throws SQLException {
-    return OpenTelemetryResultSet.wrap(delegate.getResultSet(), this);
+    return wrapResultSet(delegate.getResultSet());
   }
 
   @Override
@@ -267,7 +275,7 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   @Override
   public ResultSet getGeneratedKeys() throws SQLException {
-    return OpenTelemetryResultSet.wrap(delegate.getGeneratedKeys(), this);
+    return OpenTelemetryResultSet.wrapGeneratedKeys(delegate.getGeneratedKeys(), this);
   }
 
   @Override
@@ -390,13 +398,19 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   protected <T, E extends Exception> T wrapCall(DbRequest request, ThrowingSupplier<T, E> callable)
       throws E {
+    // result sets of the previous execution are not the current result anymore
+    lastContext = null;
+    resultSet = null;
+    wrappedResultSet = null;
     Context parentContext = Context.current();
 
     if (!this.instrumenter.shouldStart(parentContext, request)) {
+      rememberContext(parentContext);
       return callable.call();
     }
 
     Context context = this.instrumenter.start(parentContext, request);
+    rememberContext(context);
     T result;
     try (Scope ignored = context.makeCurrent()) {
       result = callable.call();
@@ -408,8 +422,52 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
     return result;
   }
 
+  private void rememberContext(Context context) {
+    if (connection.getResultSetTelemetry() != null) {
+      lastContext = context;
+    }
+  }
+
+  /**
+   * Returns the wrapper of the given result set of this statement, reusing the wrapper of the
+   * current result so that {@link #getResultSet()} doesn't return a new wrapper on every call.
+   */
+  @Nullable
+  ResultSet wrapResultSet(@Nullable ResultSet delegateResultSet) {
+    if (delegateResultSet == null) {
+      return null;
+    }
+    if (delegateResultSet != resultSet) {
+      resultSet = delegateResultSet;
+      wrappedResultSet = OpenTelemetryResultSet.wrap(delegateResultSet, this);
+    }
+    return wrappedResultSet;
+  }
+
+  /** Returns the context that the telemetry of a result set of this statement is recorded in. */
+  Context getResultSetContext() {
+    return lastContext != null ? lastContext : Context.current();
+  }
+
+  /**
+   * Records the telemetry of a result set of this statement when result set telemetry is enabled.
+   * The statement span has already ended when the result set is closed, so the values are recorded
+   * in the context of the statement that produced the result set.
+   */
+  void recordResultSet(Context context, long rows, long fetchNanos) {
+    ResultSetTelemetry resultSetTelemetry = connection.getResultSetTelemetry();
+    if (resultSetTelemetry != null) {
+      resultSetTelemetry.record(context, dbInfo, rows, fetchNanos);
+    }
+  }
+
+  @Nullable
+  ResultSetTelemetry getResultSetTelemetry() {
+    return connection.getResultSetTelemetry();
+  }
+
   private <T, E extends Exception> T wrapBatchCall(ThrowingSupplier<T, E> callable) throws E {
-    DbRequest request = DbRequest.create(dbInfo, batchCommands, batchSize, Collections.emptyMap());
+    DbRequest request = DbRequest.create(dbInfo, batchCommands);
     return wrapCall(request, callable);
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
+import static io.opentelemetry.instrumentation.jdbc.internal.JdbcInstrumenterFactory.INSTRUMENTATION_NAME;
+import static io.opentelemetry.semconv.DbAttributes.DB_NAMESPACE;
+import static io.opentelemetry.semconv.DbAttributes.DB_SYSTEM_NAME;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_ADDRESS;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_PORT;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Records the number of rows read from a result set and the time spent in {@link
+ * java.sql.ResultSet#next()} when the result set is closed. The statement span has already ended
+ * by then, so the values are recorded as histograms in the context of the statement span.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ResultSetTelemetry {
+
+  private static final double NANOS_PER_S = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * Returns a new {@link ResultSetTelemetry} when enabled with the {@code
+   * otel.instrumentation.jdbc.experimental.result-set-telemetry.enabled} property, otherwise
+   * {@code null}.
+   */
+  @Nullable
+  public static ResultSetTelemetry create(OpenTelemetry openTelemetry) {
+    return create(
+        openTelemetry,
+        ConfigPropertiesUtil.getBoolean(
+            "otel.instrumentation.jdbc.experimental.result-set-telemetry.enabled", false));
+  }
+
+  @Nullable
+  public static ResultSetTelemetry create(OpenTelemetry openTelemetry, boolean enabled) {
+    return enabled ? new ResultSetTelemetry(openTelemetry.getMeter(INSTRUMENTATION_NAME)) : null;
+  }
+
+  private final LongHistogram returnedRows;
+  private final DoubleHistogram fetchDuration;
+
+  private ResultSetTelemetry(Meter meter) {
+    returnedRows =
+        meter
+            .histogramBuilder("db.client.response.returned_rows")
+            .ofLongs()
+            .setUnit("{row}")
+            .setDescription("The number of rows returned by the operation.")
+            .build();
+    fetchDuration =
+        meter
+            // not defined by the semantic conventions, hence named after the instrumentation
+            .histogramBuilder("jdbc.result_set.fetch.duration")
+            .setUnit("s")
+            .setDescription("Time spent reading the rows of a result set.")
+            .build();
+  }
+
+  void record(Context context, DbInfo dbInfo, long rows, long fetchNanos) {
+    AttributesBuilder attributes = Attributes.builder();
+    internalSet(attributes, DB_SYSTEM_NAME, dbInfo.getSystem());
+    internalSet(
+        attributes, DB_NAMESPACE, dbInfo.getName() == null ? dbInfo.getDb() : dbInfo.getName());
+    internalSet(attributes, SERVER_ADDRESS, dbInfo.getHost());
+    if (dbInfo.getPort() != null) {
+      attributes.put(SERVER_PORT, (long) dbInfo.getPort());
+    }
+    Attributes built = attributes.build();
+    returnedRows.record(rows, built, context);
+    fetchDuration.record(fetchNanos / NANOS_PER_S, built, context);
+  }
+}
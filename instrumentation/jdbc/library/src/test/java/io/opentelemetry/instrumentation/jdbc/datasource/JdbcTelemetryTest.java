@@ -29,12 +29,14 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import io.opentelemetry.instrumentation.api.internal.SemconvStability;
+import io.opentelemetry.instrumentation.jdbc.datasource.internal.Experimental;
 import io.opentelemetry.instrumentation.jdbc.internal.OpenTelemetryConnection;
 import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
 import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import javax.sql.DataSource;
@@ -281,4 +283,84 @@ class JdbcTelemetryTest {
                                 DB_OPERATION_BATCH_SIZE,
                                 SemconvStability.emitStableDatabaseSemconv() ? 2L : null))));
   }
+
+  @Test
+  void resultSetTelemetry() throws SQLException {
+    JdbcTelemetryBuilder builder = JdbcTelemetry.builder(testing.getOpenTelemetry());
+    Experimental.setResultSetTelemetryEnabled(builder, true);
+    DataSource dataSource = builder.build().wrap(new TestDataSource());
+
+    testing.runWithSpan(
+        "parent",
+        () -> {
+          ResultSet resultSet =
+              dataSource.getConnection().createStatement().executeQuery("SELECT 1;");
+          assertThat(resultSet.next()).isFalse();
+          resultSet.close();
+          // only the first close is recorded
+          resultSet.close();
+        });
+
+    testing.waitAndAssertMetrics(
+        "io.opentelemetry.jdbc",
+        metric ->
+            metric
+                .hasName("db.client.response.returned_rows")
+                .hasUnit("{row}")
+                .hasHistogramSatisfying(
+                    histogram ->
+                        histogram.hasPointsSatisfying(
+                            point ->
+                                point
+                                    .hasCount(1)
+                                    .hasSum(0)
+                                    .hasAttributesSatisfying(
+                                        equalTo(DB_SYSTEM_NAME, "postgresql"),
+                                        equalTo(DB_NAMESPACE, "dbname")))));
+    testing.waitAndAssertMetrics(
+        "io.opentelemetry.jdbc",
+        metric ->
+            metric
+                .hasName("jdbc.result_set.fetch.duration")
+                .hasUnit("s")
+                .hasHistogramSatisfying(
+                    histogram -> histogram.hasPointsSatisfying(point -> point.hasCount(1))));
+  }
+
+  @Test
+  void resultSetTelemetryReusesWrapperAndSkipsGeneratedKeys() throws SQLException {
+    DataSource source = spy(new TestDataSource());
+    Connection connection = spy(source.getConnection());
+    Statement statement = spy(connection.createStatement());
+    // drivers return the same result set until the statement is executed again
+    ResultSet delegateResultSet = statement.getResultSet();
+    when(source.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.getResultSet()).thenReturn(delegateResultSet);
+
+    JdbcTelemetryBuilder builder = JdbcTelemetry.builder(testing.getOpenTelemetry());
+    Experimental.setResultSetTelemetryEnabled(builder, true);
+    DataSource dataSource = builder.build().wrap(source);
+
+    Statement wrappedStatement = dataSource.getConnection().createStatement();
+    wrappedStatement.execute("SELECT 1;");
+    ResultSet resultSet = wrappedStatement.getResultSet();
+    assertThat(wrappedStatement.getResultSet()).isSameAs(resultSet);
+
+    wrappedStatement.execute("SELECT 1;");
+    ResultSet nextResultSet = wrappedStatement.getResultSet();
+    assertThat(nextResultSet).isNotSameAs(resultSet);
+    nextResultSet.close();
+    wrappedStatement.getGeneratedKeys().close();
+    wrappedStatement.close();
+
+    // only the result set of the second execution is recorded
+    testing.waitAndAssertMetrics(
+        "io.opentelemetry.jdbc",
+        metric ->
+            metric
+                .hasName("db.client.response.returned_rows")
+                .hasHistogramSatisfying(
+                    histogram -> histogram.hasPointsSatisfying(point -> point.hasCount(1))));
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class JdbcDataTest {
+
+  @Test
+  void batchKeepsOneStatementForEverySanitizedStatement() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo(true);
+    batchInfo.add("INSERT INTO test VALUES(1)");
+    batchInfo.add("INSERT INTO test VALUES(2)");
+    batchInfo.add("UPDATE test SET value = 1");
+    batchInfo.add("INSERT INTO test VALUES(3)");
+
+    assertThat(batchInfo.getBatchSize()).isEqualTo(4);
+    assertThat(batchInfo.getStatements())
+        .containsExactly("INSERT INTO test VALUES(1)", "UPDATE test SET value = 1");
+    assertThat(batchInfo.isTruncated()).isFalse();
+  }
+
+  @Test
+  void batchKeepsEveryDistinctStatementWithoutSanitization() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo(false);
+    batchInfo.add("INSERT INTO test VALUES(1)");
+    batchInfo.add("INSERT INTO test VALUES(2)");
+    batchInfo.add("INSERT INTO test VALUES(1)");
+
+    assertThat(batchInfo.getBatchSize()).isEqualTo(3);
+    assertThat(batchInfo.getStatements())
+        .containsExactly("INSERT INTO test VALUES(1)", "INSERT INTO test VALUES(2)");
+    assertThat(batchInfo.isTruncated()).isFalse();
+  }
+
+  @Test
+  void batchRetainsBoundedNumberOfStatements() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo(true);
+    int count = JdbcData.StatementBatchInfo.MAX_DISTINCT_STATEMENTS;
+    for (int i = 0; i < count; i++) {
+      batchInfo.add("INSERT INTO test" + i + " VALUES(1)");
+    }
+    // statements that were already added don't overflow the batch
+    batchInfo.add("INSERT INTO test0 VALUES(2)");
+    assertThat(batchInfo.isTruncated()).isFalse();
+
+    batchInfo.add("INSERT INTO test" + count + " VALUES(1)");
+
+    assertThat(batchInfo.getBatchSize()).isEqualTo(count + 2);
+    assertThat(batchInfo.getStatements())
+        .hasSize(JdbcData.StatementBatchInfo.MAX_DISTINCT_STATEMENTS);
+    assertThat(batchInfo.isTruncated()).isTrue();
+  }
+
+  @Test
+  void clearBatch() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo(true);
+    for (int i = 0; i <= JdbcData.StatementBatchInfo.MAX_DISTINCT_STATEMENTS; i++) {
+      batchInfo.add("INSERT INTO test" + i + " VALUES(1)");
+    }
+    batchInfo.clear();
+    batchInfo.add("DELETE FROM test");
+
+    assertThat(batchInfo.getBatchSize()).isEqualTo(1);
+    assertThat(batchInfo.getStatements()).containsExactly("DELETE FROM test");
+    assertThat(batchInfo.isTruncated()).isFalse();
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class JdbcUtilsTest {
+
+  private static final String URL = "jdbc:postgresql://pg.example.com:5432/orders";
+
+  @Test
+  void parseUrlReusesDbInfoForSameUrl() {
+    DbInfo dbInfo = JdbcUtils.parseUrl(URL, null);
+
+    assertThat(dbInfo.getHost()).isEqualTo("pg.example.com");
+    assertThat(dbInfo.getPort()).isEqualTo(5432);
+    assertThat(JdbcUtils.parseUrl(URL, new Properties())).isSameAs(dbInfo);
+  }
+
+  @Test
+  void parseUrlIgnoresUnusedProperties() {
+    Properties first = new Properties();
+    first.setProperty("user", "app");
+    first.setProperty("password", "first");
+    Properties second = new Properties();
+    second.setProperty("user", "app");
+    second.setProperty("password", "second");
+
+    DbInfo dbInfo = JdbcUtils.parseUrl(URL, first);
+
+    assertThat(dbInfo.getUser()).isEqualTo("app");
+    assertThat(JdbcUtils.parseUrl(URL, second)).isSameAs(dbInfo);
+  }
+
+  @Test
+  void parseUrlUsesPropertiesInCacheKey() {
+    Properties properties = new Properties();
+    properties.setProperty("user", "admin");
+
+    assertThat(JdbcUtils.parseUrl(URL, properties).getUser()).isEqualTo("admin");
+    assertThat(JdbcUtils.parseUrl(URL, null).getUser()).isNull();
+  }
+}
@@ -6,7 +6,9 @@
 package io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11;
 
 import static io.opentelemetry.javaagent.bootstrap.kafka.KafkaClientsConsumerProcessTracing.wrappingEnabledSupplier;
+import static io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11.KafkaSingletons.consumerBatchProcessInstrumenter;
 import static io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11.KafkaSingletons.consumerProcessInstrumenter;
+import static io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11.KafkaSingletons.isBatchProcessSpansEnabled;
 import static net.bytebuddy.matcher.ElementMatchers.isMethod;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
@@ -16,6 +18,7 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.KafkaConsumerContext;
 import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.KafkaConsumerContextUtil;
+import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.KafkaReceiveRequest;
 import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.TracingIterable;
 import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.TracingIterator;
 import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.TracingList;
@@ -31,6 +34,7 @@ import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 
 public class ConsumerRecordsInstrumentation implements TypeInstrumentation {
 
@@ -85,6 +89,13 @@ public class ConsumerRecordsInstrumentation implements TypeInstrumentation {
       // case it's important to overwrite the leaked span instead of suppressing the correct span
       // (https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/1947)
       KafkaConsumerContext consumerContext = KafkaConsumerContextUtil.get(records);
+      if (isBatchProcessSpansEnabled()) {
+        return TracingIterable.wrapBatch(
+            iterable,
+            consumerBatchProcessInstrumenter(),
+            wrappingEnabledSupplier(),
+            consumerContext);
+      }
       return TracingIterable.wrap(
           iterable, consumerProcessInstrumenter(), wrappingEnabledSupplier(), consumerContext);
     }
@@ -97,6 +108,7 @@ public class ConsumerRecordsInstrumentation implements TypeInstrumentation {
     @Advice.OnMethodExit(suppress = Throwable.class)
     public static <K, V> List<ConsumerRecord<K, V>> wrap(
         @Advice.This ConsumerRecords<?, ?> records,
+        @Advice.Argument(0) TopicPartition partition,
         @Advice.Return List<ConsumerRecord<K, V>> list) {
 
       // it's important not to suppress consumer span creation here because this instrumentation can
@@ -104,6 +116,14 @@ public class ConsumerRecordsInstrumentation implements TypeInstrumentation {
       // case it's important to overwrite the leaked span instead of suppressing the correct span
       // (https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/1947)
       KafkaConsumerContext consumerContext = KafkaConsumerContextUtil.get(records);
+      if (isBatchProcessSpansEnabled()) {
+        return TracingList.wrapBatch(
+            list,
+            consumerBatchProcessInstrumenter(),
+            wrappingEnabledSupplier(),
+            consumerContext,
+            partition);
+      }
       return TracingList.wrap(
           list, consumerProcessInstrumenter(), wrappingEnabledSupplier(), consumerContext);
     }
@@ -123,6 +143,14 @@ public class ConsumerRecordsInstrumentation implements TypeInstrumentation {
       // case it's important to overwrite the leaked span instead of suppressing the correct span
       // (https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/1947)
       KafkaConsumerContext consumerContext = KafkaConsumerContextUtil.get(records);
+      if (isBatchProcessSpansEnabled()) {
+        return TracingIterator.wrapBatch(
+            iterator,
+            consumerBatchProcessInstrumenter(),
+            wrappingEnabledSupplier(),
+            consumerContext,
+            KafkaReceiveRequest.create(consumerContext, records));
+      }
       return TracingIterator.wrap(
           iterator, consumerProcessInstrumenter(), wrappingEnabledSupplier(), consumerContext);
     }
@@ -142,6 +170,14 @@ public class ConsumerRecordsInstrumentation implements TypeInstrumentation {
       // case it's important to overwrite the leaked span instead of suppressing the correct span
       // (https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/1947)
       KafkaConsumerContext consumerContext = KafkaConsumerContextUtil.get(records);
+      if (isBatchProcessSpansEnabled()) {
+        return TracingListIterator.wrapBatch(
+            listIterator,
+            consumerBatchProcessInstrumenter(),
+            wrappingEnabledSupplier(),
+            consumerContext,
+            KafkaReceiveRequest.create(consumerContext, records));
+      }
       return TracingListIterator.wrap(
           listIterator, consumerProcessInstrumenter(), wrappingEnabledSupplier(), consumerContext);
     }
@@ -21,10 +21,14 @@ public final class KafkaSingletons {
   private static final boolean PRODUCER_PROPAGATION_ENABLED =
       AgentInstrumentationConfig.get()
           .getBoolean("otel.instrumentation.kafka.producer-propagation.enabled", true);
+  private static final boolean BATCH_PROCESS_SPANS_ENABLED =
+      AgentInstrumentationConfig.get()
+          .getBoolean("otel.instrumentation.kafka.experimental.batch-process-spans.enabled", false);
 
   private static final Instrumenter<KafkaProducerRequest, RecordMetadata> PRODUCER_INSTRUMENTER;
   private static final Instrumenter<KafkaReceiveRequest, Void> CONSUMER_RECEIVE_INSTRUMENTER;
   private static final Instrumenter<KafkaProcessRequest, Void> CONSUMER_PROCESS_INSTRUMENTER;
+  private static final Instrumenter<KafkaReceiveRequest, Void> CONSUMER_BATCH_PROCESS_INSTRUMENTER;
 
   static {
     KafkaInstrumenterFactory instrumenterFactory =
@@ -38,12 +42,17 @@ public final class KafkaSingletons {
     PRODUCER_INSTRUMENTER = instrumenterFactory.createProducerInstrumenter();
     CONSUMER_RECEIVE_INSTRUMENTER = instrumenterFactory.createConsumerReceiveInstrumenter();
     CONSUMER_PROCESS_INSTRUMENTER = instrumenterFactory.createConsumerProcessInstrumenter();
+    CONSUMER_BATCH_PROCESS_INSTRUMENTER = instrumenterFactory.createBatchProcessInstrumenter();
   }
 
   public static boolean isProducerPropagationEnabled() {
     return PRODUCER_PROPAGATION_ENABLED;
   }
 
+  public static boolean isBatchProcessSpansEnabled() {
+    return BATCH_PROCESS_SPANS_ENABLED;
+  }
+
   public static Instrumenter<KafkaProducerRequest, RecordMetadata> producerInstrumenter() {
     return PRODUCER_INSTRUMENTER;
   }
@@ -56,5 +65,9 @@ public final class KafkaSingletons {
     return CONSUMER_PROCESS_INSTRUMENTER;
   }
 
+  public static Instrumenter<KafkaReceiveRequest, Void> consumerBatchProcessInstrumenter() {
+    return CONSUMER_BATCH_PROCESS_INSTRUMENTER;
+  }
+
   private KafkaSingletons() {}
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11;
+
+import static io.opentelemetry.instrumentation.testing.util.TelemetryDataUtil.orderByRootSpanName;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes.MESSAGING_BATCH_MESSAGE_COUNT;
+import static io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME;
+import static io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes.MESSAGING_OPERATION;
+import static io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes.MESSAGING_SYSTEM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.KafkaClientBaseTest;
+import io.opentelemetry.instrumentation.testing.junit.AgentInstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class KafkaClientBatchProcessSpansTest extends KafkaClientBaseTest {
+  @RegisterExtension
+  static final InstrumentationExtension testing = AgentInstrumentationExtension.create();
+
+  @Test
+  void testOneProcessSpanForPoll() throws Exception {
+    String greeting = "Hello Kafka!";
+    testing.runWithSpan(
+        "parent",
+        () -> {
+          producer.send(new ProducerRecord<>(SHARED_TOPIC, 10, greeting)).get(5, TimeUnit.SECONDS);
+        });
+
+    awaitUntilConsumerIsReady();
+    ConsumerRecords<?, ?> records = poll(Duration.ofSeconds(5));
+    assertThat(records.count()).isEqualTo(1);
+    for (ConsumerRecord<?, ?> record : records) {
+      testing.runWithSpan("processing", () -> assertThat(record.value()).isEqualTo(greeting));
+    }
+
+    assertBatchProcessSpan();
+  }
+
+  @Test
+  void testOneProcessSpanForPartition() throws Exception {
+    String greeting = "Hello from MockConsumer!";
+    testing.runWithSpan(
+        "parent",
+        () -> {
+          producer
+              .send(new ProducerRecord<>(SHARED_TOPIC, partition, null, greeting))
+              .get(5, TimeUnit.SECONDS);
+        });
+
+    awaitUntilConsumerIsReady();
+    ConsumerRecords<?, ?> consumerRecords = poll(Duration.ofSeconds(5));
+    List<? extends ConsumerRecord<?, ?>> recordsInPartition =
+        consumerRecords.records(topicPartition);
+    assertThat(recordsInPartition.size()).isEqualTo(1);
+    for (ConsumerRecord<?, ?> record : recordsInPartition) {
+      testing.runWithSpan("processing", () -> assertThat(record.value()).isEqualTo(greeting));
+    }
+
+    assertBatchProcessSpan();
+  }
+
+  @Test
+  void testOneProcessSpanForTopic() throws Exception {
+    String greeting = "Hello Kafka!";
+    testing.runWithSpan(
+        "parent",
+        () -> {
+          producer.send(new ProducerRecord<>(SHARED_TOPIC, 10, greeting)).get(5, TimeUnit.SECONDS);
+        });
+
+    awaitUntilConsumerIsReady();
+    ConsumerRecords<?, ?> consumerRecords = poll(Duration.ofSeconds(5));
+    for (ConsumerRecord<?, ?> record : consumerRecords.records(SHARED_TOPIC)) {
+      testing.runWithSpan("processing", () -> assertThat(record.value()).isEqualTo(greeting));
+    }
+
+    assertBatchProcessSpan();
+  }
+
+  @Test
+  void testProcessSpanEndedByNextPoll() throws Exception {
+    String greeting = "Hello Kafka!";
+    testing.runWithSpan(
+        "parent",
+        () -> {
+          producer.send(new ProducerRecord<>(SHARED_TOPIC, 10, greeting)).get(5, TimeUnit.SECONDS);
+        });
+
+    awaitUntilConsumerIsReady();
+    ConsumerRecords<?, ?> records = poll(Duration.ofSeconds(5));
+    assertThat(records.count()).isEqualTo(1);
+    // the iteration doesn't reach the end of the batch
+    Iterator<? extends ConsumerRecord<?, ?>> iterator = records.iterator();
+    ConsumerRecord<?, ?> record = iterator.next();
+    testing.runWithSpan("processing", () -> assertThat(record.value()).isEqualTo(greeting));
+
+    poll(Duration.ofMillis(100));
+    assertThat(Span.current().getSpanContext().isValid()).isFalse();
+
+    assertBatchProcessSpan();
+  }
+
+  @SuppressWarnings("deprecation") // using deprecated semconv
+  private static void assertBatchProcessSpan() {
+    AtomicReference<SpanContext> producerSpanContext = new AtomicReference<>();
+    testing.waitAndAssertSortedTraces(
+        orderByRootSpanName("parent", SHARED_TOPIC + " process"),
+        trace -> {
+          trace.hasSpansSatisfyingExactly(
+              span -> span.hasName("parent").hasKind(SpanKind.INTERNAL).hasNoParent(),
+              span ->
+                  span.hasName(SHARED_TOPIC + " publish")
+                      .hasKind(SpanKind.PRODUCER)
+                      .hasParent(trace.getSpan(0)));
+          SpanContext spanContext = trace.getSpan(1).getSpanContext();
+          producerSpanContext.set(
+              SpanContext.createFromRemoteParent(
+                  spanContext.getTraceId(),
+                  spanContext.getSpanId(),
+                  spanContext.getTraceFlags(),
+                  spanContext.getTraceState()));
+        },
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName(SHARED_TOPIC + " process")
+                        .hasKind(SpanKind.CONSUMER)
+                        .hasNoParent()
+                        .hasLinks(LinkData.create(producerSpanContext.get()))
+                        .hasAttributesSatisfying(
+                            equalTo(MESSAGING_SYSTEM, "kafka"),
+                            equalTo(MESSAGING_DESTINATION_NAME, SHARED_TOPIC),
+                            equalTo(MESSAGING_OPERATION, "process"),
+                            equalTo(MESSAGING_BATCH_MESSAGE_COUNT, 1)),
+                span ->
+                    span.hasName("processing")
+                        .hasKind(SpanKind.INTERNAL)
+                        .hasParent(trace.getSpan(0))));
+  }
+}
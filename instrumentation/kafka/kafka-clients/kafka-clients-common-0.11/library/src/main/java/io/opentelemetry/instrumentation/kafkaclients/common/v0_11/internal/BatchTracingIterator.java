@@ -0,0 +1,121 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Iterator that creates a single process span for all records of a batch, instead of one span for
+ * each record. The span is started when the first record is requested and ended when the iteration
+ * reaches the end of the batch. When the iteration is left early, the span is ended by the next
+ * poll of the consumer on the same thread, see {@link #endCurrentSpan()}. The span links to the
+ * producer spans of the records.
+ *
+ * <p>Iterating over the records doesn't allocate anything. The context of a single record can still
+ * be extracted from its headers with the text map propagator when it's needed.
+ */
+final class BatchTracingIterator<K, V> implements Iterator<ConsumerRecord<K, V>> {
+
+  // the span links extractor iterates over the records of the batch while the span is started,
+  // that iteration must not start another batch span
+  private static final ThreadLocal<Boolean> startingSpan = ThreadLocal.withInitial(() -> false);
+  // the iterator whose span scope is open on this thread
+  private static final ThreadLocal<BatchTracingIterator<?, ?>> current = new ThreadLocal<>();
+
+  private final Iterator<ConsumerRecord<K, V>> delegateIterator;
+  private final Instrumenter<KafkaReceiveRequest, Void> instrumenter;
+  private final BooleanSupplier wrappingEnabled;
+  private final Context parentContext;
+  private final KafkaReceiveRequest request;
+
+  /*
+   * Note: this may potentially create problems if this iterator is used from different threads. But
+   * at the moment we cannot do much about this.
+   */
+  private boolean started;
+  @Nullable private Context context;
+  @Nullable private Scope scope;
+
+  BatchTracingIterator(
+      Iterator<ConsumerRecord<K, V>> delegateIterator,
+      Instrumenter<KafkaReceiveRequest, Void> instrumenter,
+      BooleanSupplier wrappingEnabled,
+      KafkaConsumerContext consumerContext,
+      KafkaReceiveRequest request) {
+    this.delegateIterator = delegateIterator;
+    this.instrumenter = instrumenter;
+    this.wrappingEnabled = wrappingEnabled;
+    this.request = request;
+
+    Context receiveContext = consumerContext.getContext();
+    // use the receive CONSUMER as parent if it's available
+    this.parentContext = receiveContext != null ? receiveContext : Context.current();
+  }
+
+  static boolean isStartingSpan() {
+    return startingSpan.get();
+  }
+
+  /** Ends the span of the batch whose iteration on this thread didn't reach the end. */
+  static void endCurrentSpan() {
+    BatchTracingIterator<?, ?> iterator = current.get();
+    if (iterator != null) {
+      iterator.closeScopeAndEndSpan();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    boolean hasNext = delegateIterator.hasNext();
+    if (!hasNext) {
+      closeScopeAndEndSpan();
+    }
+    return hasNext;
+  }
+
+  @Override
+  public ConsumerRecord<K, V> next() {
+    ConsumerRecord<K, V> next = delegateIterator.next();
+    // see TracingIterator for why Instrumenter.shouldStart() isn't called here
+    if (!started && next != null && wrappingEnabled.getAsBoolean()) {
+      started = true;
+      // the scopes must be closed in order, so a batch left early ends before the next one starts
+      endCurrentSpan();
+      startingSpan.set(true);
+      try {
+        context = instrumenter.start(parentContext, request);
+      } finally {
+        startingSpan.set(false);
+      }
+      scope = context.makeCurrent();
+      current.set(this);
+    }
+    return next;
+  }
+
+  private void closeScopeAndEndSpan() {
+    if (scope != null) {
+      scope.close();
+      instrumenter.end(context, request, null, null);
+      scope = null;
+      context = null;
+      if (current.get() == this) {
+        current.remove();
+      }
+    }
+  }
+
+  @Override
+  public void remove() {
+    delegateIterator.remove();
+  }
+}
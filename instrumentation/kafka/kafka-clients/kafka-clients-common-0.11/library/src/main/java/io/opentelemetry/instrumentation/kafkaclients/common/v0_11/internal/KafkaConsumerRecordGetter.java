@@ -6,42 +6,32 @@
 package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
 
 import io.opentelemetry.context.propagation.TextMapGetter;
-import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
-import org.apache.kafka.common.header.Header;
 
 enum KafkaConsumerRecordGetter implements TextMapGetter<KafkaProcessRequest> {
   INSTANCE;
 
   @Override
   public Iterable<String> keys(KafkaProcessRequest carrier) {
-    return StreamSupport.stream(carrier.getRecord().headers().spliterator(), false)
-        .map(Header::key)
-        .collect(Collectors.toList());
+    return KafkaHeadersGetter.INSTANCE.keys(carrier.getRecord().headers());
   }
 
   @Nullable
   @Override
   public String get(@Nullable KafkaProcessRequest carrier, String key) {
-    Header header = carrier.getRecord().headers().lastHeader(key);
-    if (header == null) {
+    if (carrier == null) {
       return null;
     }
-    byte[] value = header.value();
-    if (value == null) {
-      return null;
-    }
-    return new String(value, StandardCharsets.UTF_8);
+    return KafkaHeadersGetter.INSTANCE.get(carrier.getRecord().headers(), key);
   }
 
   @Override
   public Iterator<String> getAll(@Nullable KafkaProcessRequest carrier, String key) {
-    return StreamSupport.stream(carrier.getRecord().headers().headers(key).spliterator(), false)
-        .filter(header -> header.value() != null)
-        .map(header -> new String(header.value(), StandardCharsets.UTF_8))
-        .iterator();
+    if (carrier == null) {
+      return Collections.emptyIterator();
+    }
+    return KafkaHeadersGetter.INSTANCE.getAll(carrier.getRecord().headers(), key);
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
+
+import io.opentelemetry.context.propagation.TextMapGetter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Reads the propagated context directly from the record headers. The header values stay bytes until
+ * the propagator asks for them, which happens only when a span or a span link is created for the
+ * record.
+ */
+enum KafkaHeadersGetter implements TextMapGetter<Headers> {
+  INSTANCE;
+
+  @Override
+  public Iterable<String> keys(Headers carrier) {
+    List<String> keys = new ArrayList<>();
+    for (Header header : carrier) {
+      keys.add(header.key());
+    }
+    return keys;
+  }
+
+  @Nullable
+  @Override
+  public String get(@Nullable Headers carrier, String key) {
+    if (carrier == null) {
+      return null;
+    }
+    Header header = carrier.lastHeader(key);
+    if (header == null) {
+      return null;
+    }
+    byte[] value = header.value();
+    if (value == null) {
+      return null;
+    }
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public Iterator<String> getAll(@Nullable Headers carrier, String key) {
+    if (carrier == null) {
+      return Collections.emptyIterator();
+    }
+    List<String> values = null;
+    for (Header header : carrier.headers(key)) {
+      byte[] value = header.value();
+      if (value != null) {
+        if (values == null) {
+          values = new ArrayList<>(1);
+        }
+        values.add(new String(value, StandardCharsets.UTF_8));
+      }
+    }
+    return values == null ? Collections.emptyIterator() : values.iterator();
+  }
+}
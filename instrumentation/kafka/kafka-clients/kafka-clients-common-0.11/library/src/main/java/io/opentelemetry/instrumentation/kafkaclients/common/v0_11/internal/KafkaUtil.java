@@ -9,14 +9,20 @@ import io.opentelemetry.instrumentation.api.util.VirtualField;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -108,5 +114,18 @@ public final class KafkaUtil {
     }
   }
 
+  /** Groups records that don't come from a single {@link ConsumerRecords} by their partition. */
+  public static <K, V> ConsumerRecords<K, V> toConsumerRecords(
+      Iterable<ConsumerRecord<K, V>> records) {
+    Map<TopicPartition, List<ConsumerRecord<K, V>>> partitions = new LinkedHashMap<>();
+    for (ConsumerRecord<K, V> record : records) {
+      partitions
+          .computeIfAbsent(
+              new TopicPartition(record.topic(), record.partition()), tp -> new ArrayList<>())
+          .add(record);
+    }
+    return new ConsumerRecords<>(partitions);
+  }
+
   private KafkaUtil() {}
 }
@@ -8,6 +8,8 @@ package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.util.Iterator;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
 /**
@@ -16,18 +18,26 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
  */
 public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
   private final Iterable<ConsumerRecord<K, V>> delegate;
-  protected final Instrumenter<KafkaProcessRequest, Void> instrumenter;
+  @Nullable private final Instrumenter<KafkaProcessRequest, Void> instrumenter;
+  @Nullable private final Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter;
+  // the request is only created when a batch span is started, see wrapBatch()
+  @Nullable private final Supplier<KafkaReceiveRequest> batchSupplier;
+  @Nullable private KafkaReceiveRequest batch;
   protected final BooleanSupplier wrappingEnabled;
   protected final KafkaConsumerContext consumerContext;
   private boolean firstIterator = true;
 
   protected TracingIterable(
       Iterable<ConsumerRecord<K, V>> delegate,
-      Instrumenter<KafkaProcessRequest, Void> instrumenter,
+      @Nullable Instrumenter<KafkaProcessRequest, Void> instrumenter,
+      @Nullable Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter,
+      @Nullable Supplier<KafkaReceiveRequest> batchSupplier,
       BooleanSupplier wrappingEnabled,
       KafkaConsumerContext consumerContext) {
     this.delegate = delegate;
     this.instrumenter = instrumenter;
+    this.batchInstrumenter = batchInstrumenter;
+    this.batchSupplier = batchSupplier;
     this.wrappingEnabled = wrappingEnabled;
     this.consumerContext = consumerContext;
   }
@@ -38,7 +48,30 @@ public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
       BooleanSupplier wrappingEnabled,
       KafkaConsumerContext consumerContext) {
     if (wrappingEnabled.getAsBoolean()) {
-      return new TracingIterable<>(delegate, instrumenter, wrappingEnabled, consumerContext);
+      return new TracingIterable<>(
+          delegate, instrumenter, null, null, wrappingEnabled, consumerContext);
+    }
+    return delegate;
+  }
+
+  /**
+   * Returns an iterable whose first iterator creates a single process span for all records of the
+   * iterable, instead of one span for each record. The records are only grouped into a batch when
+   * the first iterator is created, so that iterables which are never iterated don't pay for it.
+   */
+  public static <K, V> Iterable<ConsumerRecord<K, V>> wrapBatch(
+      Iterable<ConsumerRecord<K, V>> delegate,
+      Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter,
+      BooleanSupplier wrappingEnabled,
+      KafkaConsumerContext consumerContext) {
+    if (wrappingEnabled.getAsBoolean()) {
+      return new TracingIterable<>(
+          delegate,
+          null,
+          batchInstrumenter,
+          () -> KafkaReceiveRequest.create(consumerContext, KafkaUtil.toConsumerRecords(delegate)),
+          wrappingEnabled,
+          consumerContext);
     }
     return delegate;
   }
@@ -50,8 +83,7 @@ public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
     // However, this is not thread-safe, but usually the first (hopefully only) traversal of
     // ConsumerRecords is performed in the same thread that called poll()
     if (firstIterator) {
-      it =
-          TracingIterator.wrap(delegate.iterator(), instrumenter, wrappingEnabled, consumerContext);
+      it = tracingIterator(delegate.iterator());
       firstIterator = false;
     } else {
       it = delegate.iterator();
@@ -59,4 +91,19 @@ public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
 
     return it;
   }
+
+  protected Iterator<ConsumerRecord<K, V>> tracingIterator(
+      Iterator<ConsumerRecord<K, V>> delegateIterator) {
+    if (batchInstrumenter != null && batchSupplier != null) {
+      if (batch == null) {
+        batch = batchSupplier.get();
+      }
+      return TracingIterator.wrapBatch(
+          delegateIterator, batchInstrumenter, wrappingEnabled, consumerContext, batch);
+    }
+    if (instrumenter != null) {
+      return TracingIterator.wrap(delegateIterator, instrumenter, wrappingEnabled, consumerContext);
+    }
+    return delegateIterator;
+  }
 }
@@ -60,6 +60,31 @@ public class TracingIterator<K, V> implements Iterator<ConsumerRecord<K, V>> {
     return delegateIterator;
   }
 
+  /**
+   * Returns an iterator that creates a single process span for all records of the given batch,
+   * instead of one span for each record.
+   */
+  public static <K, V> Iterator<ConsumerRecord<K, V>> wrapBatch(
+      Iterator<ConsumerRecord<K, V>> delegateIterator,
+      Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter,
+      BooleanSupplier wrappingEnabled,
+      KafkaConsumerContext consumerContext,
+      KafkaReceiveRequest batch) {
+    if (wrappingEnabled.getAsBoolean() && !BatchTracingIterator.isStartingSpan()) {
+      return new BatchTracingIterator<>(
+          delegateIterator, batchInstrumenter, wrappingEnabled, consumerContext, batch);
+    }
+    return delegateIterator;
+  }
+
+  /**
+   * Ends the batch process span of an iteration on this thread that was left before reaching the
+   * end of the batch. Called when the consumer polls again.
+   */
+  public static void endBatchSpan() {
+    BatchTracingIterator.endCurrentSpan();
+  }
+
   @Override
   public boolean hasNext() {
     closeScopeAndEndSpan();
@@ -7,10 +7,15 @@ package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
 
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -21,10 +26,13 @@ public class TracingList<K, V> extends TracingIterable<K, V> implements List<Con
 
   private TracingList(
       List<ConsumerRecord<K, V>> delegate,
-      Instrumenter<KafkaProcessRequest, Void> instrumenter,
+      @Nullable Instrumenter<KafkaProcessRequest, Void> instrumenter,
+      @Nullable Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter,
+      @Nullable Supplier<KafkaReceiveRequest> batchSupplier,
       BooleanSupplier wrappingEnabled,
       KafkaConsumerContext consumerContext) {
-    super(delegate, instrumenter, wrappingEnabled, consumerContext);
+    super(
+        delegate, instrumenter, batchInstrumenter, batchSupplier, wrappingEnabled, consumerContext);
     this.delegate = delegate;
   }
 
@@ -34,7 +42,34 @@ public class TracingList<K, V> extends TracingIterable<K, V> implements List<Con
       BooleanSupplier wrappingEnabled,
       KafkaConsumerContext consumerContext) {
     if (wrappingEnabled.getAsBoolean()) {
-      return new TracingList<>(delegate, instrumenter, wrappingEnabled, consumerContext);
+      return new TracingList<>(
+          delegate, instrumenter, null, null, wrappingEnabled, consumerContext);
+    }
+    return delegate;
+  }
+
+  /**
+   * Returns a list whose first iterator creates a single process span for all records of the given
+   * partition, instead of one span for each record. The batch is only created when the first
+   * iterator is created.
+   */
+  public static <K, V> List<ConsumerRecord<K, V>> wrapBatch(
+      List<ConsumerRecord<K, V>> delegate,
+      Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter,
+      BooleanSupplier wrappingEnabled,
+      KafkaConsumerContext consumerContext,
+      TopicPartition partition) {
+    if (wrappingEnabled.getAsBoolean()) {
+      return new TracingList<>(
+          delegate,
+          null,
+          batchInstrumenter,
+          () ->
+              KafkaReceiveRequest.create(
+                  consumerContext,
+                  new ConsumerRecords<>(Collections.singletonMap(partition, delegate))),
+          wrappingEnabled,
+          consumerContext);
     }
     return delegate;
   }
@@ -137,14 +172,21 @@ public class TracingList<K, V> extends TracingIterable<K, V> implements List<Con
 
   @Override
   public ListIterator<ConsumerRecord<K, V>> listIterator() {
-    return TracingListIterator.wrap(
-        delegate.listIterator(), instrumenter, wrappingEnabled, consumerContext);
+    return tracingListIterator(delegate.listIterator());
   }
 
   @Override
   public ListIterator<ConsumerRecord<K, V>> listIterator(int index) {
-    return TracingListIterator.wrap(
-        delegate.listIterator(index), instrumenter, wrappingEnabled, consumerContext);
+    return tracingListIterator(delegate.listIterator(index));
+  }
+
+  private ListIterator<ConsumerRecord<K, V>> tracingListIterator(
+      ListIterator<ConsumerRecord<K, V>> delegateListIterator) {
+    if (wrappingEnabled.getAsBoolean()) {
+      return new TracingListIterator<>(
+          delegateListIterator, tracingIterator(delegateListIterator));
+    }
+    return delegateListIterator;
   }
 
   @Override
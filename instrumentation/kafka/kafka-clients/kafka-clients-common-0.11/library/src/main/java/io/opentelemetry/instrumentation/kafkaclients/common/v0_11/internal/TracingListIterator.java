@@ -20,14 +20,11 @@ public class TracingListIterator<K, V> implements ListIterator<ConsumerRecord<K,
   private final ListIterator<ConsumerRecord<K, V>> delegateListIterator;
   private final Iterator<ConsumerRecord<K, V>> tracingIterator;
 
-  private TracingListIterator(
+  TracingListIterator(
       ListIterator<ConsumerRecord<K, V>> delegateListIterator,
-      Instrumenter<KafkaProcessRequest, Void> instrumenter,
-      BooleanSupplier wrappingEnabled,
-      KafkaConsumerContext consumerContext) {
+      Iterator<ConsumerRecord<K, V>> tracingIterator) {
     this.delegateListIterator = delegateListIterator;
-    this.tracingIterator =
-        TracingIterator.wrap(delegateListIterator, instrumenter, wrappingEnabled, consumerContext);
+    this.tracingIterator = tracingIterator;
   }
 
   public static <K, V> ListIterator<ConsumerRecord<K, V>> wrap(
@@ -37,7 +34,28 @@ public class TracingListIterator<K, V> implements ListIterator<ConsumerRecord<K,
       KafkaConsumerContext consumerContext) {
     if (wrappingEnabled.getAsBoolean()) {
       return new TracingListIterator<>(
-          delegateListIterator, instrumenter, wrappingEnabled, consumerContext);
+          delegateListIterator,
+          TracingIterator.wrap(
+              delegateListIterator, instrumenter, wrappingEnabled, consumerContext));
+    }
+    return delegateListIterator;
+  }
+
+  /**
+   * Returns a list iterator that creates a single process span for all records of the given batch,
+   * instead of one span for each record.
+   */
+  public static <K, V> ListIterator<ConsumerRecord<K, V>> wrapBatch(
+      ListIterator<ConsumerRecord<K, V>> delegateListIterator,
+      Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter,
+      BooleanSupplier wrappingEnabled,
+      KafkaConsumerContext consumerContext,
+      KafkaReceiveRequest batch) {
+    if (wrappingEnabled.getAsBoolean()) {
+      return new TracingListIterator<>(
+          delegateListIterator,
+          TracingIterator.wrapBatch(
+              delegateListIterator, batchInstrumenter, wrappingEnabled, consumerContext, batch));
     }
     return delegateListIterator;
   }
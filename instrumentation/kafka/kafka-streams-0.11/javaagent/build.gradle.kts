@@ -40,12 +40,23 @@ tasks {
     include("**/KafkaStreamsSuppressReceiveSpansTest.*")
   }
 
+  val testProcessSpanSampling by registering(Test::class) {
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    filter {
+      includeTestsMatching("KafkaStreamsProcessSpanSamplingTest")
+    }
+    include("**/KafkaStreamsProcessSpanSamplingTest.*")
+    jvmArgs("-Dotel.instrumentation.kafka-streams.experimental.process-span-sampling-interval=2")
+  }
+
   val testExperimental by registering(Test::class) {
     testClassesDirs = sourceSets.test.get().output.classesDirs
     classpath = sourceSets.test.get().runtimeClasspath
 
     filter {
       excludeTestsMatching("KafkaStreamsSuppressReceiveSpansTest")
+      excludeTestsMatching("KafkaStreamsProcessSpanSamplingTest")
     }
     jvmArgs("-Dotel.instrumentation.messaging.experimental.receive-telemetry.enabled=true")
 
@@ -56,12 +67,14 @@ tasks {
   test {
     filter {
       excludeTestsMatching("KafkaStreamsSuppressReceiveSpansTest")
+      excludeTestsMatching("KafkaStreamsProcessSpanSamplingTest")
     }
     jvmArgs("-Dotel.instrumentation.messaging.experimental.receive-telemetry.enabled=true")
   }
 
   check {
     dependsOn(testReceiveSpansDisabled)
+    dependsOn(testProcessSpanSampling)
   }
 }
 
@@ -26,9 +26,21 @@ public final class KafkaStreamsSingletons {
               ExperimentalConfig.get().messagingReceiveInstrumentationEnabled())
           .createConsumerProcessInstrumenter();
 
+  private static final ProcessSpanSampler PROCESS_SPAN_SAMPLER =
+      new ProcessSpanSampler(
+          GlobalOpenTelemetry.getMeter(INSTRUMENTATION_NAME),
+          AgentInstrumentationConfig.get()
+              .getInt(
+                  "otel.instrumentation.kafka-streams.experimental.process-span-sampling-interval",
+                  1));
+
   public static Instrumenter<KafkaProcessRequest, Void> instrumenter() {
     return INSTRUMENTER;
   }
 
+  public static ProcessSpanSampler processSpanSampler() {
+    return PROCESS_SPAN_SAMPLER;
+  }
+
   private KafkaStreamsSingletons() {}
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.instrumentation.kafkastreams;
 
 import static io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge.currentContext;
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.instrumenter;
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.processSpanSampler;
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.StateHolder.HOLDER;
 import static net.bytebuddy.matcher.ElementMatchers.isMethod;
 import static net.bytebuddy.matcher.ElementMatchers.isPackagePrivate;
@@ -56,6 +57,10 @@ public class PartitionGroupInstrumentation implements TypeInstrumentation {
         // somehow nextRecord() was called outside of process()
         return;
       }
+      holder.setRecordProcessed();
+      if (!processSpanSampler().sample(holder.getTask())) {
+        return;
+      }
 
       KafkaConsumerContext consumerContext = KafkaConsumerContextUtil.get(record.value);
       Context receiveContext = consumerContext.getContext();
@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkastreams;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.streams.processor.internals.StreamTask;
+
+/**
+ * Decides which of the records processed by a stream task get a process span. With an interval of
+ * N only every N-th record of a task is traced, the decision is made before the process request is
+ * created or the instrumenter is called. The duration of processing every record is recorded in a
+ * histogram per task, so that the throughput and latency of the tasks stay visible.
+ */
+public final class ProcessSpanSampler {
+
+  private static final double NANOS_PER_S = TimeUnit.SECONDS.toNanos(1);
+  private static final AttributeKey<String> KAFKA_STREAMS_TASK_ID =
+      AttributeKey.stringKey("kafka.streams.task.id");
+
+  private static final VirtualField<StreamTask, TaskState> taskStateField =
+      VirtualField.find(StreamTask.class, TaskState.class);
+
+  private final int interval;
+  private final DoubleHistogram durationHistogram;
+
+  ProcessSpanSampler(Meter meter, int interval) {
+    this.interval = interval;
+    this.durationHistogram =
+        meter
+            .histogramBuilder("kafka.streams.task.process.duration")
+            .setDescription("Measures the duration of processing a record in a stream task.")
+            .setUnit("s")
+            .build();
+  }
+
+  /** Returns whether only some records are traced. */
+  public boolean isSampling() {
+    return interval > 1;
+  }
+
+  /** Returns whether the next record of the given task is traced. */
+  public boolean sample(StreamTask task) {
+    if (interval <= 1) {
+      return true;
+    }
+    TaskState state = taskState(task);
+    // a task is processed by a single stream thread at a time
+    return state.processedRecords++ % interval == 0;
+  }
+
+  /** Records the duration of processing a record of the given task. */
+  public void recordDuration(StreamTask task, long startNanos) {
+    durationHistogram.record(
+        (System.nanoTime() - startNanos) / NANOS_PER_S, taskState(task).attributes);
+  }
+
+  private static TaskState taskState(StreamTask task) {
+    TaskState state = taskStateField.get(task);
+    if (state == null) {
+      state = new TaskState(Attributes.of(KAFKA_STREAMS_TASK_ID, String.valueOf(task.id())));
+      taskStateField.set(task, state);
+    }
+    return state;
+  }
+
+  public static final class TaskState {
+    final Attributes attributes;
+    long processedRecords;
+
+    TaskState(Attributes attributes) {
+      this.attributes = attributes;
+    }
+  }
+}
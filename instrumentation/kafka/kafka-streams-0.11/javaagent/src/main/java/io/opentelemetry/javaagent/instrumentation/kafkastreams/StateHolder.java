@@ -8,18 +8,43 @@ package io.opentelemetry.javaagent.instrumentation.kafkastreams;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal.KafkaProcessRequest;
+import org.apache.kafka.streams.processor.internals.StreamTask;
 
 public final class StateHolder {
   public static final ThreadLocal<StateHolder> HOLDER = new ThreadLocal<>();
 
+  private final StreamTask task;
+  private final long startNanos;
+  private boolean recordProcessed;
   private KafkaProcessRequest request;
   private Context context;
   private Scope scope;
 
+  public StateHolder(StreamTask task, long startNanos) {
+    this.task = task;
+    this.startNanos = startNanos;
+  }
+
   public void closeScope() {
     scope.close();
   }
 
+  public StreamTask getTask() {
+    return task;
+  }
+
+  public long getStartNanos() {
+    return startNanos;
+  }
+
+  public boolean isRecordProcessed() {
+    return recordProcessed;
+  }
+
+  public void setRecordProcessed() {
+    recordProcessed = true;
+  }
+
   public KafkaProcessRequest getRequest() {
     return request;
   }
@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.instrumentation.kafkastreams;
 
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.instrumenter;
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.processSpanSampler;
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.StateHolder.HOLDER;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
@@ -16,6 +17,7 @@ import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.kafka.streams.processor.internals.StreamTask;
 
 public class StreamTaskInstrumentation implements TypeInstrumentation {
 
@@ -37,8 +39,9 @@ public class StreamTaskInstrumentation implements TypeInstrumentation {
   public static class ProcessAdvice {
 
     @Advice.OnMethodEnter
-    public static StateHolder onEnter() {
-      StateHolder holder = new StateHolder();
+    public static StateHolder onEnter(@Advice.This StreamTask task) {
+      long startNanos = processSpanSampler().isSampling() ? System.nanoTime() : 0;
+      StateHolder holder = new StateHolder(task, startNanos);
       HOLDER.set(holder);
       return holder;
     }
@@ -53,6 +56,9 @@ public class StreamTaskInstrumentation implements TypeInstrumentation {
         holder.closeScope();
         instrumenter().end(context, holder.getRequest(), null, throwable);
       }
+      if (holder.isRecordProcessed() && processSpanSampler().isSampling()) {
+        processSpanSampler().recordDuration(holder.getTask(), holder.getStartNanos());
+      }
     }
   }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkastreams;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.satisfies;
+import static io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes.MESSAGING_KAFKA_MESSAGE_KEY;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.junit.jupiter.api.Test;
+
+// runs with otel.instrumentation.kafka-streams.experimental.process-span-sampling-interval=2
+class KafkaStreamsProcessSpanSamplingTest extends KafkaStreamsBaseTest {
+
+  private static final int RECORD_COUNT = 4;
+
+  @SuppressWarnings("deprecation") // using deprecated semconv
+  @Test
+  void testProcessSpanSampling() throws Exception {
+    Properties config = new Properties();
+    config.putAll(producerProps(kafka.getBootstrapServers()));
+    config.put(StreamsConfig.APPLICATION_ID_CONFIG, "test-sampling-application");
+    config.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.Integer().getClass().getName());
+    config.put(
+        StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.String().getClass().getName());
+
+    KafkaStreamsReflectionUtil.StreamBuilder streamBuilder =
+        KafkaStreamsReflectionUtil.createBuilder();
+    KStream<Integer, String> textLines = streamBuilder.stream(STREAM_PENDING);
+    KStream<Integer, String> values =
+        textLines.mapValues(textLine -> textLine.toLowerCase(Locale.ROOT));
+
+    KafkaStreams streams = streamBuilder.createStreams(values, config, STREAM_PROCESSED);
+    streams.start();
+
+    // send the records one by one so that they are processed in key order by the single task
+    for (int i = 1; i <= RECORD_COUNT; i++) {
+      producer.send(new ProducerRecord<>(STREAM_PENDING, i, "TESTING " + i)).get();
+    }
+
+    List<ConsumerRecord<Integer, String>> received = new ArrayList<>();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (received.size() < RECORD_COUNT && System.nanoTime() < deadline) {
+      for (ConsumerRecord<Integer, String> record : poll(Duration.ofSeconds(1))) {
+        received.add(record);
+      }
+    }
+    assertThat(received).hasSize(RECORD_COUNT);
+
+    // sampled records keep a single trace from the pending publish to the processed consume, the
+    // others are split into a pending publish trace and a processed publish trace
+    List<SpanData> spans =
+        testing.waitForTraces(RECORD_COUNT + RECORD_COUNT / 2).stream()
+            .flatMap(List::stream)
+            .collect(toList());
+
+    List<SpanData> processSpans =
+        spans.stream()
+            .filter(span -> span.getName().equals(STREAM_PENDING + " process"))
+            .collect(toList());
+    // the first record of the task is sampled, then every second one
+    assertThat(processSpans)
+        .extracting(span -> span.getAttributes().get(MESSAGING_KAFKA_MESSAGE_KEY))
+        .containsExactlyInAnyOrder("1", "3");
+
+    for (SpanData processSpan : processSpans) {
+      assertThat(processSpan.getKind()).isEqualTo(SpanKind.CONSUMER);
+
+      SpanData pendingPublish = findSpan(spans, processSpan.getParentSpanId());
+      assertThat(pendingPublish.getName()).isEqualTo(STREAM_PENDING + " publish");
+      assertThat(pendingPublish.getTraceId()).isEqualTo(processSpan.getTraceId());
+      assertThat(pendingPublish.getParentSpanContext().isValid()).isFalse();
+
+      assertThat(spans)
+          .filteredOn(span -> span.getParentSpanId().equals(processSpan.getSpanId()))
+          .singleElement()
+          .satisfies(
+              processedPublish -> {
+                assertThat(processedPublish.getName()).isEqualTo(STREAM_PROCESSED + " publish");
+                assertThat(processedPublish.getTraceId()).isEqualTo(processSpan.getTraceId());
+              });
+    }
+
+    // records without a process span must not inherit the context of a sampled one
+    assertThat(spans)
+        .filteredOn(span -> span.getName().equals(STREAM_PROCESSED + " publish"))
+        .filteredOn(span -> !span.getParentSpanContext().isValid())
+        .hasSize(RECORD_COUNT - processSpans.size());
+
+    testing.waitAndAssertMetrics(
+        "io.opentelemetry.kafka-streams-0.11",
+        metric ->
+            metric
+                .hasName("kafka.streams.task.process.duration")
+                .hasUnit("s")
+                .hasHistogramSatisfying(
+                    histogram ->
+                        histogram.hasPointsSatisfying(
+                            point ->
+                                point
+                                    .hasCount(RECORD_COUNT)
+                                    .hasAttributesSatisfyingExactly(
+                                        satisfies(
+                                            stringKey("kafka.streams.task.id"),
+                                            id -> id.isNotEmpty())))));
+  }
+
+  private static SpanData findSpan(List<SpanData> spans, String spanId) {
+    return spans.stream()
+        .filter(span -> span.getSpanId().equals(spanId))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("span " + spanId + " not found"));
+  }
+}
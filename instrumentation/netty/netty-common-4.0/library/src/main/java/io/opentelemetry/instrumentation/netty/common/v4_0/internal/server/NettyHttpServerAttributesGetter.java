@@ -5,15 +5,18 @@
 
 package io.opentelemetry.instrumentation.netty.common.v4_0.internal.server;
 
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpVersion;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.internal.HttpHeadersBulkGetter;
 import io.opentelemetry.instrumentation.netty.common.v4_0.NettyRequest;
 import io.opentelemetry.instrumentation.netty.common.v4_0.internal.ChannelUtil;
 import io.opentelemetry.instrumentation.netty.common.v4_0.internal.HttpSchemeUtil;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 /**
@@ -21,7 +24,8 @@ import javax.annotation.Nullable;
  * any time.
  */
 public final class NettyHttpServerAttributesGetter
-    implements HttpServerAttributesGetter<NettyRequest, HttpResponse> {
+    implements HttpServerAttributesGetter<NettyRequest, HttpResponse>,
+        HttpHeadersBulkGetter<NettyRequest, HttpResponse> {
 
   @Override
   public String getHttpRequestMethod(NettyRequest requestAndChannel) {
@@ -33,6 +37,12 @@ public final class NettyHttpServerAttributesGetter
     return requestAndChannel.request().headers().getAll(name);
   }
 
+  @Override
+  public boolean forEachHttpRequestHeader(NettyRequest requestAndChannel, HeaderConsumer consumer) {
+    forEachHeader(requestAndChannel.request().headers(), consumer);
+    return true;
+  }
+
   @Override
   public Integer getHttpResponseStatusCode(
       NettyRequest requestAndChannel, HttpResponse response, @Nullable Throwable error) {
@@ -45,6 +55,19 @@ public final class NettyHttpServerAttributesGetter
     return response.headers().getAll(name);
   }
 
+  @Override
+  public boolean forEachHttpResponseHeader(
+      NettyRequest requestAndChannel, HttpResponse response, HeaderConsumer consumer) {
+    forEachHeader(response.headers(), consumer);
+    return true;
+  }
+
+  private static void forEachHeader(HttpHeaders headers, HeaderConsumer consumer) {
+    for (Map.Entry<String, String> header : headers) {
+      consumer.accept(header.getKey(), header.getValue());
+    }
+  }
+
   @Override
   public String getUrlScheme(NettyRequest requestAndChannel) {
     return HttpSchemeUtil.getScheme(requestAndChannel);
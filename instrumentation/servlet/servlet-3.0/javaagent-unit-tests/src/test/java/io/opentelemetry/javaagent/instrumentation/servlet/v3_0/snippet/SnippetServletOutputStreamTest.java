@@ -144,6 +144,25 @@ class SnippetServletOutputStreamTest {
     assertThat(out.getBytes()).isEqualTo(expectedHtml);
   }
 
+  @Test
+  void testInjectionWithOffset() throws IOException {
+    String snippet = "<script/>";
+    byte[] buffer = "ignored<html><head><title>Title</title>ignored".getBytes(UTF_8);
+
+    InjectionState obj = createInjectionStateForTesting(snippet, UTF_8);
+    InMemoryServletOutputStream out = new InMemoryServletOutputStream();
+
+    Supplier<String> stringSupplier = snippet::toString;
+    OutputStreamSnippetInjectionHelper helper =
+        new OutputStreamSnippetInjectionHelper(stringSupplier);
+    boolean injected = helper.handleWrite(obj, out, buffer, 7, buffer.length - 14);
+
+    assertThat(injected).isTrue();
+    assertThat(obj.getHeadTagBytesSeen()).isEqualTo(-1);
+    assertThat(out.getBytes())
+        .isEqualTo("<html><head><script/><title>Title</title>".getBytes(UTF_8));
+  }
+
   private static InjectionState createInjectionStateForTesting(String snippet, Charset charset) {
     HttpServletResponse response = mock(HttpServletResponse.class);
     when(response.isCommitted()).thenReturn(false);
@@ -9,8 +9,12 @@ package io.opentelemetry.javaagent.bootstrap.servlet;
 public class InjectionState {
   private static final int HEAD_TAG_WRITTEN_FAKE_VALUE = -1;
   private static final int HEAD_TAG_PREFIX_LENGTH = "<head".length();
+  // the head tag is expected at the start of the document, responses that don't have it within
+  // this many characters are passed through without scanning the rest of them
+  private static final int SCAN_LIMIT = 64 * 1024;
   private final SnippetInjectingResponseWrapper wrapper;
   private int headTagBytesSeen = 0;
+  private int bytesScanned = 0;
 
   public InjectionState(SnippetInjectingResponseWrapper wrapper) {
     this.wrapper = wrapper;
@@ -53,6 +57,73 @@ public class InjectionState {
     }
   }
 
+  /**
+   * Processes {@code len} bytes starting at {@code off}. Returns the position of the last character
+   * of "<head>" when now is the right time to inject, and -1 otherwise. The tag may be split across
+   * calls.
+   */
+  public int processBytes(byte[] bytes, int off, int len) {
+    if (isHeadTagWritten()) {
+      return -1;
+    }
+    int end = off + Math.min(len, SCAN_LIMIT - bytesScanned);
+    for (int i = off; i < end; i++) {
+      // only '<' can start the tag, skip to it without updating the state for every byte
+      if (headTagBytesSeen == 0 && bytes[i] != '<') {
+        continue;
+      }
+      if (processByte(bytes[i])) {
+        return i;
+      }
+    }
+    return scanned(end - off);
+  }
+
+  /** Same as {@link #processBytes(byte[], int, int)}, for writers. */
+  public int processChars(CharSequence chars, int off, int len) {
+    if (isHeadTagWritten()) {
+      return -1;
+    }
+    int end = off + Math.min(len, SCAN_LIMIT - bytesScanned);
+    for (int i = off; i < end; i++) {
+      char c = chars.charAt(i);
+      if (headTagBytesSeen == 0 && c != '<') {
+        continue;
+      }
+      if (processByte(c)) {
+        return i;
+      }
+    }
+    return scanned(end - off);
+  }
+
+  /** Same as {@link #processChars(CharSequence, int, int)}, for character arrays. */
+  public int processChars(char[] chars, int off, int len) {
+    if (isHeadTagWritten()) {
+      return -1;
+    }
+    int end = off + Math.min(len, SCAN_LIMIT - bytesScanned);
+    for (int i = off; i < end; i++) {
+      char c = chars[i];
+      if (headTagBytesSeen == 0 && c != '<') {
+        continue;
+      }
+      if (processByte(c)) {
+        return i;
+      }
+    }
+    return scanned(end - off);
+  }
+
+  private int scanned(int count) {
+    bytesScanned += count;
+    if (bytesScanned >= SCAN_LIMIT) {
+      // give up, nothing is injected into this response
+      setHeadTagWritten();
+    }
+    return -1;
+  }
+
   private boolean inHeadTag(int b) {
     if (headTagBytesSeen == 0 && b == '<') {
       return true;
@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.servlet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class InjectionStateTest {
+
+  @Test
+  void findsHeadTagAfterOffset() {
+    InjectionState state = new InjectionState(null);
+    byte[] bytes = "<head><html><head lang=\"en\">".getBytes(UTF_8);
+
+    // the first head tag is outside of the processed range
+    assertThat(state.processBytes(bytes, 6, bytes.length - 6)).isEqualTo(bytes.length - 1);
+    assertThat(state.isHeadTagWritten()).isTrue();
+    assertThat(state.processBytes(bytes, 0, bytes.length)).isEqualTo(-1);
+  }
+
+  @Test
+  void findsHeadTagSplitAcrossChunks() {
+    InjectionState state = new InjectionState(null);
+
+    assertThat(state.processChars("<html><", 0, 7)).isEqualTo(-1);
+    assertThat(state.processChars("hea", 0, 3)).isEqualTo(-1);
+    assertThat(state.getHeadTagBytesSeen()).isEqualTo(4);
+    assertThat(state.processChars("d>", 0, 2)).isEqualTo(1);
+    assertThat(state.isHeadTagWritten()).isTrue();
+  }
+
+  @Test
+  void findsHeadTagInCharArray() {
+    InjectionState state = new InjectionState(null);
+    char[] chars = "<html><head><head>".toCharArray();
+
+    assertThat(state.processChars(chars, 1, 8)).isEqualTo(-1);
+    assertThat(state.processChars(chars, 9, 3)).isEqualTo(11);
+    assertThat(state.isHeadTagWritten()).isTrue();
+  }
+
+  @Test
+  void stopsScanningAfterLimit() {
+    InjectionState state = new InjectionState(null);
+    byte[] bytes = new byte[64 * 1024];
+    Arrays.fill(bytes, (byte) ' ');
+
+    assertThat(state.processBytes(bytes, 0, bytes.length)).isEqualTo(-1);
+    assertThat(state.isHeadTagWritten()).isTrue();
+    byte[] head = "<head>".getBytes(UTF_8);
+    assertThat(state.processBytes(head, 0, head.length)).isEqualTo(-1);
+  }
+}
@@ -6,12 +6,14 @@
 package io.opentelemetry.javaagent.instrumentation.servlet;
 
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.internal.HttpHeadersBulkGetter;
 import java.util.List;
 import javax.annotation.Nullable;
 
 public class ServletHttpAttributesGetter<REQUEST, RESPONSE>
     implements HttpServerAttributesGetter<
-        ServletRequestContext<REQUEST>, ServletResponseContext<RESPONSE>> {
+            ServletRequestContext<REQUEST>, ServletResponseContext<RESPONSE>>,
+        HttpHeadersBulkGetter<ServletRequestContext<REQUEST>, ServletResponseContext<RESPONSE>> {
 
   protected final ServletAccessor<REQUEST, RESPONSE> accessor;
 
@@ -49,6 +51,30 @@ public class ServletHttpAttributesGetter<REQUEST, RESPONSE>
     return accessor.getRequestHeaderValues(requestContext.request(), name);
   }
 
+  @Override
+  public boolean forEachHttpRequestHeader(
+      ServletRequestContext<REQUEST> requestContext, HeaderConsumer consumer) {
+    REQUEST request = requestContext.request();
+    for (String name : accessor.getRequestHeaderNames(request)) {
+      // only the captured headers are looked up
+      if (consumer.isCaptured(name)) {
+        for (String value : accessor.getRequestHeaderValues(request, name)) {
+          consumer.accept(name, value);
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean forEachHttpResponseHeader(
+      ServletRequestContext<REQUEST> requestContext,
+      ServletResponseContext<RESPONSE> responseContext,
+      HeaderConsumer consumer) {
+    // response header names can't be read in servlet 2.2
+    return false;
+  }
+
   @Override
   @Nullable
   public Integer getHttpResponseStatusCode(
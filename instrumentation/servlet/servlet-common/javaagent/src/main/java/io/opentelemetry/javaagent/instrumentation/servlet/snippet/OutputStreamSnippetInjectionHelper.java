@@ -7,12 +7,14 @@ package io.opentelemetry.javaagent.instrumentation.servlet.snippet;
 
 import static java.util.logging.Level.FINE;
 
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.javaagent.bootstrap.servlet.InjectionState;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 public class OutputStreamSnippetInjectionHelper {
 
@@ -20,6 +22,8 @@ public class OutputStreamSnippetInjectionHelper {
       Logger.getLogger(OutputStreamSnippetInjectionHelper.class.getName());
 
   private final Supplier<String> snippetSupplier;
+  // encoded snippets by character encoding, responses mostly use one or two encodings
+  private final Cache<String, EncodedSnippet> encodedSnippets = Cache.bounded(8);
 
   public OutputStreamSnippetInjectionHelper(Supplier<String> snippetSupplier) {
     this.snippetSupplier = snippetSupplier;
@@ -40,35 +44,24 @@ public class OutputStreamSnippetInjectionHelper {
     if (state.isHeadTagWritten()) {
       return false;
     }
-    int endOfHeadTagPosition;
-    boolean endOfHeadTagFound = false;
-    for (endOfHeadTagPosition = off;
-        endOfHeadTagPosition < length && endOfHeadTagPosition - off < length;
-        endOfHeadTagPosition++) {
-      if (state.processByte(original[endOfHeadTagPosition])) {
-        endOfHeadTagFound = true;
-        break;
-      }
-    }
-    if (!endOfHeadTagFound) {
+    int endOfHeadTagPosition = state.processBytes(original, off, length);
+    if (endOfHeadTagPosition < 0) {
       return false;
     }
 
     if (state.getWrapper().isNotSafeToInject()) {
       return false;
     }
-    byte[] snippetBytes;
-    try {
-      snippetBytes = snippetSupplier.get().getBytes(state.getCharacterEncoding());
-    } catch (UnsupportedEncodingException e) {
-      logger.log(FINE, "Failed getting snippet bytes", e);
+    byte[] snippetBytes = getSnippetBytes(state.getCharacterEncoding());
+    if (snippetBytes == null) {
       return false;
     }
     // updating Content-Length before any further writing in case that writing triggers a flush
     state.getWrapper().updateContentLengthIfPreviouslySet();
-    out.write(original, off, endOfHeadTagPosition + 1);
+    int headLength = endOfHeadTagPosition - off + 1;
+    out.write(original, off, headLength);
     out.write(snippetBytes);
-    out.write(original, endOfHeadTagPosition + 1, length - endOfHeadTagPosition - 1);
+    out.write(original, endOfHeadTagPosition + 1, length - headLength);
     return true;
   }
 
@@ -83,11 +76,8 @@ public class OutputStreamSnippetInjectionHelper {
     if (state.getWrapper().isNotSafeToInject()) {
       return false;
     }
-    byte[] snippetBytes;
-    try {
-      snippetBytes = snippetSupplier.get().getBytes(state.getCharacterEncoding());
-    } catch (UnsupportedEncodingException e) {
-      logger.log(FINE, "Failed getting snippet bytes", e);
+    byte[] snippetBytes = getSnippetBytes(state.getCharacterEncoding());
+    if (snippetBytes == null) {
       return false;
     }
     state.getWrapper().updateContentLengthIfPreviouslySet();
@@ -96,4 +86,33 @@ public class OutputStreamSnippetInjectionHelper {
     out.write(snippetBytes);
     return true;
   }
+
+  @Nullable
+  private byte[] getSnippetBytes(String characterEncoding) {
+    String snippet = snippetSupplier.get();
+    EncodedSnippet encoded = encodedSnippets.get(characterEncoding);
+    // the snippet can be replaced at runtime
+    if (encoded != null && encoded.snippet.equals(snippet)) {
+      return encoded.bytes;
+    }
+    try {
+      encoded = new EncodedSnippet(snippet, snippet.getBytes(characterEncoding));
+    } catch (UnsupportedEncodingException e) {
+      logger.log(FINE, "Failed getting snippet bytes", e);
+      return null;
+    }
+    encodedSnippets.put(characterEncoding, encoded);
+    return encoded.bytes;
+  }
+
+  private static class EncodedSnippet {
+    final String snippet;
+    // never modified, the same array is written to every response
+    final byte[] bytes;
+
+    EncodedSnippet(String snippet, byte[] bytes) {
+      this.snippet = snippet;
+      this.bytes = bytes;
+    }
+  }
 }
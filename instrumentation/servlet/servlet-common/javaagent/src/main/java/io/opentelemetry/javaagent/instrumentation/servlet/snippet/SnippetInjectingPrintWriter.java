@@ -26,9 +26,15 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
       super.write(s, off, len);
       return;
     }
-    for (int i = off; i < s.length() && i - off < len; i++) {
-      write(s.charAt(i));
+    int endOfHeadTagPosition = state.processChars(s, off, len);
+    if (endOfHeadTagPosition < 0) {
+      super.write(s, off, len);
+      return;
     }
+    int headLength = endOfHeadTagPosition - off + 1;
+    super.write(s, off, headLength);
+    injectSnippet();
+    super.write(s, endOfHeadTagPosition + 1, len - headLength);
   }
 
   @Override
@@ -41,12 +47,7 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
     if (!endOfHeadTagFound) {
       return;
     }
-
-    if (state.getWrapper().isNotSafeToInject()) {
-      return;
-    }
-    state.getWrapper().updateContentLengthIfPreviouslySet();
-    super.write(snippet);
+    injectSnippet();
   }
 
   @Override
@@ -55,8 +56,22 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
       super.write(buf, off, len);
       return;
     }
-    for (int i = off; i < buf.length && i - off < len; i++) {
-      write(buf[i]);
+    int endOfHeadTagPosition = state.processChars(buf, off, len);
+    if (endOfHeadTagPosition < 0) {
+      super.write(buf, off, len);
+      return;
+    }
+    int headLength = endOfHeadTagPosition - off + 1;
+    super.write(buf, off, headLength);
+    injectSnippet();
+    super.write(buf, endOfHeadTagPosition + 1, len - headLength);
+  }
+
+  private void injectSnippet() {
+    if (state.getWrapper().isNotSafeToInject()) {
+      return;
     }
+    state.getWrapper().updateContentLengthIfPreviouslySet();
+    super.write(snippet);
   }
 }
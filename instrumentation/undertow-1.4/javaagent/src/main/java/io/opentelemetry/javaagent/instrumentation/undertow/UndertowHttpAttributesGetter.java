@@ -7,7 +7,9 @@ package io.opentelemetry.javaagent.instrumentation.undertow;
 
 import io.opentelemetry.instrumentation.api.internal.HttpProtocolUtil;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.internal.HttpHeadersBulkGetter;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderMap;
 import io.undertow.util.HeaderValues;
 import java.net.InetSocketAddress;
 import java.util.Collections;
@@ -15,7 +17,8 @@ import java.util.List;
 import javax.annotation.Nullable;
 
 public class UndertowHttpAttributesGetter
-    implements HttpServerAttributesGetter<HttpServerExchange, HttpServerExchange> {
+    implements HttpServerAttributesGetter<HttpServerExchange, HttpServerExchange>,
+        HttpHeadersBulkGetter<HttpServerExchange, HttpServerExchange> {
 
   @Override
   public String getHttpRequestMethod(HttpServerExchange exchange) {
@@ -28,6 +31,12 @@ public class UndertowHttpAttributesGetter
     return values == null ? Collections.emptyList() : values;
   }
 
+  @Override
+  public boolean forEachHttpRequestHeader(HttpServerExchange exchange, HeaderConsumer consumer) {
+    forEachHeader(exchange.getRequestHeaders(), consumer);
+    return true;
+  }
+
   @Override
   public Integer getHttpResponseStatusCode(
       HttpServerExchange exchange, HttpServerExchange unused, @Nullable Throwable error) {
@@ -41,6 +50,24 @@ public class UndertowHttpAttributesGetter
     return values == null ? Collections.emptyList() : values;
   }
 
+  @Override
+  public boolean forEachHttpResponseHeader(
+      HttpServerExchange exchange, HttpServerExchange unused, HeaderConsumer consumer) {
+    forEachHeader(exchange.getResponseHeaders(), consumer);
+    return true;
+  }
+
+  private static void forEachHeader(HeaderMap headers, HeaderConsumer consumer) {
+    for (HeaderValues values : headers) {
+      String name = values.getHeaderName().toString();
+      if (consumer.isCaptured(name)) {
+        for (String value : values) {
+          consumer.accept(name, value);
+        }
+      }
+    }
+  }
+
   @Override
   @Nullable
   public String getUrlScheme(HttpServerExchange exchange) {
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.field;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the accesses to virtual fields that are stored in the fallback map of the generated
+ * virtual field implementation, because the class of the object was loaded before the agent could
+ * add a field to it, and exposes them as a metric.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class VirtualFieldFallbackMetrics {
+
+  private static final AttributeKey<String> TYPE = stringKey("type");
+  private static final AttributeKey<String> FIELD_TYPE = stringKey("field_type");
+
+  // virtual field implementation class name -> counter
+  private static final ConcurrentMap<String, FallbackCounter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the counter of the virtual field implementation with the given name. This method is
+   * called from the agent class loader when the implementation is generated.
+   */
+  public static void registerImplementation(
+      String implementationClassName, String typeName, String fieldTypeName) {
+    counters.putIfAbsent(
+        implementationClassName,
+        new FallbackCounter(Attributes.of(TYPE, typeName, FIELD_TYPE, fieldTypeName)));
+  }
+
+  /** Returns the counter of the virtual field implementation with the given name. */
+  public static LongAdder getCounter(String implementationClassName) {
+    // implementations are registered when they are generated, this is only a safety net
+    return counters
+        .computeIfAbsent(implementationClassName, name -> new FallbackCounter(Attributes.empty()))
+        .accesses;
+  }
+
+  /** Registers an asynchronous counter reporting the fallback map accesses with the given meter. */
+  public static void registerMetrics(Meter meter) {
+    meter
+        .counterBuilder("otel.javaagent.virtual_field.fallback.accesses")
+        .setUnit("{access}")
+        .setDescription(
+            "Number of virtual field accesses that use a map, because the class of the object was"
+                + " loaded before the agent could add a field to it.")
+        .buildWithCallback(
+            measurement -> {
+              for (FallbackCounter counter : counters.values()) {
+                long accesses = counter.accesses.sum();
+                if (accesses > 0) {
+                  measurement.record(accesses, counter.attributes);
+                }
+              }
+            });
+  }
+
+  private static final class FallbackCounter {
+    final Attributes attributes;
+    final LongAdder accesses = new LongAdder();
+
+    FallbackCounter(Attributes attributes) {
+      this.attributes = attributes;
+    }
+  }
+
+  private VirtualFieldFallbackMetrics() {}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.field;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.Test;
+
+class VirtualFieldFallbackMetricsTest {
+
+  @Test
+  void reportsAccessesPerTypePair() {
+    VirtualFieldFallbackMetrics.registerImplementation(
+        "test.VirtualFieldImpl$Task$Context", "test.Task", "test.Context");
+    VirtualFieldFallbackMetrics.registerImplementation(
+        "test.VirtualFieldImpl$Unused$Context", "test.Unused", "test.Context");
+    VirtualFieldFallbackMetrics.getCounter("test.VirtualFieldImpl$Task$Context").add(3);
+
+    InMemoryMetricReader reader = InMemoryMetricReader.create();
+    try (SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(reader).build()) {
+      VirtualFieldFallbackMetrics.registerMetrics(meterProvider.get("test"));
+
+      assertThat(reader.collectAllMetrics())
+          .satisfiesExactly(
+              metric ->
+                  assertThat(metric)
+                      .hasName("otel.javaagent.virtual_field.fallback.accesses")
+                      .hasLongSumSatisfying(
+                          sum ->
+                              sum.isMonotonic()
+                                  .hasPointsSatisfying(
+                                      point ->
+                                          point
+                                              .hasValue(3)
+                                              .hasAttributesSatisfyingExactly(
+                                                  equalTo(stringKey("type"), "test.Task"),
+                                                  equalTo(
+                                                      stringKey("field_type"),
+                                                      "test.Context")))));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.extension.matcher;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates class loader matchers the way they are evaluated during startup: many threads load
+ * classes in parallel, and every loaded class is checked against the class loader matchers of all
+ * instrumentation modules.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+public class ClassLoaderHasClassesNamedMatcherBenchmark {
+
+  private static final int MATCHER_COUNT = 256;
+  private static final int CLASS_LOADER_COUNT = 16;
+
+  private static final ClassLoaderHasClassesNamedMatcher[] matchers =
+      new ClassLoaderHasClassesNamedMatcher[MATCHER_COUNT];
+  private static final ClassLoader[] classLoaders = new ClassLoader[CLASS_LOADER_COUNT];
+
+  static {
+    for (int i = 0; i < MATCHER_COUNT; i++) {
+      // a quarter of the matchers match, like modules for libraries that are on the class path
+      matchers[i] =
+          i % 4 == 0
+              ? new ClassLoaderHasClassesNamedMatcher(
+                  ClassLoaderHasClassesNamedMatcherBenchmark.class.getName())
+              : new ClassLoaderHasClassesNamedMatcher("com.example.Missing" + i);
+    }
+    for (int i = 0; i < CLASS_LOADER_COUNT; i++) {
+      classLoaders[i] =
+          new ClassLoader(ClassLoaderHasClassesNamedMatcherBenchmark.class.getClassLoader()) {};
+    }
+  }
+
+  private int next;
+
+  @Benchmark
+  @Threads(1)
+  public boolean threads01() {
+    return match();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public boolean threads32() {
+    return match();
+  }
+
+  private boolean match() {
+    // negative values of an overflowed counter would produce negative indexes
+    int i = next++ & Integer.MAX_VALUE;
+    ClassLoaderHasClassesNamedMatcher matcher = matchers[i % MATCHER_COUNT];
+    ClassLoader classLoader = classLoaders[(i / MATCHER_COUNT) % CLASS_LOADER_COUNT];
+    return matcher.matches(classLoader);
+  }
+}
@@ -8,26 +8,31 @@ package io.opentelemetry.javaagent.extension.matcher;
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.javaagent.bootstrap.internal.ClassLoaderMatcherCacheHolder;
 import io.opentelemetry.javaagent.bootstrap.internal.InClassLoaderMatcher;
-import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 import net.bytebuddy.matcher.ElementMatcher;
 
 class ClassLoaderHasClassesNamedMatcher extends ElementMatcher.Junction.AbstractBase<ClassLoader> {
   // caching is disabled for build time muzzle checks
   // this field is set via reflection from ClassLoaderMatcher
   static boolean useCache = true;
+  // each distinct resource gets a unique index that is used for caching whether the resource is
+  // present, so that resources that are checked by multiple matchers are looked up only once
+  private static final Map<String, Integer> resourceIndexes = new ConcurrentHashMap<>();
   private static final AtomicInteger counter = new AtomicInteger();
 
   private final String[] resources;
-  // each matcher gets a unique index that is used for caching the matching status
-  private final int index = counter.getAndIncrement();
+  private final int[] indexes;
 
   ClassLoaderHasClassesNamedMatcher(String... classNames) {
     resources = classNames;
+    indexes = new int[resources.length];
     for (int i = 0; i < resources.length; i++) {
       resources[i] = resources[i].replace(".", "/") + ".class";
+      indexes[i] = resourceIndexes.computeIfAbsent(resources[i], k -> counter.getAndIncrement());
     }
   }
 
@@ -45,63 +50,112 @@ class ClassLoaderHasClassesNamedMatcher extends ElementMatcher.Junction.Abstract
   }
 
   private static boolean hasResources(ClassLoader cl, String... resources) {
+    for (String resource : resources) {
+      if (!hasResource(cl, resource)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasResource(ClassLoader cl, String resource) {
     boolean priorValue = InClassLoaderMatcher.getAndSet(true);
     try {
-      for (String resource : resources) {
-        if (cl.getResource(resource) == null) {
-          return false;
-        }
-      }
+      return cl.getResource(resource) != null;
     } finally {
       InClassLoaderMatcher.set(priorValue);
     }
-    return true;
   }
 
   private static class Manager {
     static final Manager INSTANCE = new Manager();
-    // each matcher gets a two bits in BitSet, that first bit indicates whether current matcher has
-    // been run for given class loader and the second whether it matched or not
-    private final Cache<ClassLoader, BitSet> enabled = Cache.weak();
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Lock readLock = lock.readLock();
-    private final Lock writeLock = lock.writeLock();
+    private final Cache<ClassLoader, ResourceBits> enabled = Cache.weak();
 
     Manager() {
       ClassLoaderMatcherCacheHolder.addCache(enabled);
     }
 
     boolean match(ClassLoaderHasClassesNamedMatcher matcher, ClassLoader cl) {
-      BitSet set = enabled.computeIfAbsent(cl, (unused) -> new BitSet(counter.get() * 2));
-      int matcherRunBit = 2 * matcher.index;
-      int matchedBit = matcherRunBit + 1;
-      readLock.lock();
-      try {
-        if (!set.get(matcherRunBit)) {
-          // read lock needs to be released before upgrading to write lock
-          readLock.unlock();
-          // we do the resource presence check outside the lock to keep the time we need to hold
-          // the write lock minimal
-          boolean matches = hasResources(cl, matcher.resources);
-          writeLock.lock();
-          try {
-            if (!set.get(matcherRunBit)) {
-              if (matches) {
-                set.set(matchedBit);
-              }
-              set.set(matcherRunBit);
-            }
-          } finally {
-            // downgrading the write lock to the read lock
-            readLock.lock();
-            writeLock.unlock();
+      ResourceBits bits = enabled.computeIfAbsent(cl, unused -> new ResourceBits(counter.get()));
+      for (int i = 0; i < matcher.resources.length; i++) {
+        int index = matcher.indexes[i];
+        int state = bits.get(index);
+        if (state == ResourceBits.UNKNOWN) {
+          // the resource presence check is done without holding any lock, when multiple threads
+          // check the same resource concurrently they all store the same result
+          boolean found = hasResource(cl, matcher.resources[i]);
+          bits.set(index, found ? ResourceBits.FOUND : ResourceBits.MISSING);
+          if (!found) {
+            return false;
           }
+        } else if (state == ResourceBits.MISSING) {
+          return false;
         }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Lock-free bit set that stores two bits for each resource: the first bit indicates whether the
+   * resource has been looked up in the class loader and the second whether it was found. The array
+   * is grown when resources are added after the bit set was created. An update that races with
+   * growing the array can be lost, in which case the resource is looked up again.
+   */
+  private static class ResourceBits {
+    static final int UNKNOWN = 0;
+    static final int MISSING = 1;
+    static final int FOUND = 3;
+
+    private static final int RESOURCES_PER_WORD = Long.SIZE / 2;
 
-        return set.get(matchedBit);
-      } finally {
-        readLock.unlock();
+    private final AtomicReference<AtomicLongArray> words;
+
+    ResourceBits(int resourceCount) {
+      words = new AtomicReference<>(new AtomicLongArray(wordIndex(resourceCount) + 1));
+    }
+
+    int get(int index) {
+      AtomicLongArray array = words.get();
+      int wordIndex = wordIndex(index);
+      if (wordIndex >= array.length()) {
+        return UNKNOWN;
       }
+      return (int) (array.get(wordIndex) >>> shift(index)) & 3;
+    }
+
+    void set(int index, int state) {
+      int wordIndex = wordIndex(index);
+      AtomicLongArray array = ensureCapacity(wordIndex);
+      long bits = ((long) state) << shift(index);
+      long word;
+      do {
+        word = array.get(wordIndex);
+      } while (!array.compareAndSet(wordIndex, word, word | bits));
+    }
+
+    private AtomicLongArray ensureCapacity(int wordIndex) {
+      while (true) {
+        AtomicLongArray array = words.get();
+        if (wordIndex < array.length()) {
+          return array;
+        }
+        AtomicLongArray newArray = new AtomicLongArray(Math.max(wordIndex + 1, array.length() * 2));
+        for (int i = 0; i < array.length(); i++) {
+          newArray.set(i, array.get(i));
+        }
+        if (words.compareAndSet(array, newArray)) {
+          return newArray;
+        }
+      }
+    }
+
+    private static int wordIndex(int index) {
+      return index / RESOURCES_PER_WORD;
+    }
+
+    private static int shift(int index) {
+      return (index % RESOURCES_PER_WORD) * 2;
     }
   }
 }
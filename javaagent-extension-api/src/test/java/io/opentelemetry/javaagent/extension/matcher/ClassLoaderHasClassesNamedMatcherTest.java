@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.extension.matcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ClassLoaderHasClassesNamedMatcherTest {
+
+  private static final String EXISTING_CLASS =
+      ClassLoaderHasClassesNamedMatcherTest.class.getName();
+  private static final String MISSING_CLASS = "com.example.DoesNotExist";
+
+  @Test
+  void matches() {
+    CountingClassLoader classLoader = new CountingClassLoader();
+
+    assertThat(new ClassLoaderHasClassesNamedMatcher(EXISTING_CLASS).matches(classLoader)).isTrue();
+    assertThat(new ClassLoaderHasClassesNamedMatcher(MISSING_CLASS).matches(classLoader)).isFalse();
+    assertThat(
+            new ClassLoaderHasClassesNamedMatcher(EXISTING_CLASS, MISSING_CLASS)
+                .matches(classLoader))
+        .isFalse();
+    assertThat(new ClassLoaderHasClassesNamedMatcher(EXISTING_CLASS).matches(null)).isFalse();
+
+    // every resource is looked up once, even when it is used by multiple matchers
+    assertThat(classLoader.lookups(EXISTING_CLASS)).isEqualTo(1);
+    assertThat(classLoader.lookups(MISSING_CLASS)).isEqualTo(1);
+  }
+
+  @Test
+  void matchersCreatedAfterClassLoaderWasSeen() {
+    CountingClassLoader classLoader = new CountingClassLoader();
+    assertThat(new ClassLoaderHasClassesNamedMatcher(EXISTING_CLASS).matches(classLoader)).isTrue();
+
+    // more matchers than fit into the bit set that was allocated for the class loader
+    List<ClassLoaderHasClassesNamedMatcher> matchers = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      matchers.add(new ClassLoaderHasClassesNamedMatcher(MISSING_CLASS + i));
+    }
+    for (ClassLoaderHasClassesNamedMatcher matcher : matchers) {
+      assertThat(matcher.matches(classLoader)).isFalse();
+      assertThat(matcher.matches(classLoader)).isFalse();
+    }
+
+    assertThat(new ClassLoaderHasClassesNamedMatcher(EXISTING_CLASS).matches(classLoader)).isTrue();
+    assertThat(classLoader.lookups(EXISTING_CLASS)).isEqualTo(1);
+    assertThat(classLoader.lookups(MISSING_CLASS + 99)).isEqualTo(1);
+  }
+
+  private static class CountingClassLoader extends ClassLoader {
+    private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+
+    CountingClassLoader() {
+      super(ClassLoaderHasClassesNamedMatcherTest.class.getClassLoader());
+    }
+
+    @Override
+    public URL getResource(String name) {
+      lookups.computeIfAbsent(name, unused -> new AtomicInteger()).incrementAndGet();
+      return super.getResource(name);
+    }
+
+    int lookups(String className) {
+      AtomicInteger count = lookups.get(className.replace('.', '/') + ".class");
+      return count == null ? 0 : count.get();
+    }
+  }
+}
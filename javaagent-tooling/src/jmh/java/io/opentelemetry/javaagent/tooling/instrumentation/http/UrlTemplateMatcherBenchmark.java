@@ -0,0 +1,77 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation.http;
+
+import io.opentelemetry.javaagent.tooling.instrumentation.http.UrlTemplateRules.Rule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class UrlTemplateMatcherBenchmark {
+
+  private static final int RULE_COUNT = 200;
+
+  private static final String matchedUrl = "https://api.example.com/service150/items/12345";
+  private static final String unmatchedUrl = "https://cdn.example.com/static/app.js";
+
+  private static final List<Rule> rules = new ArrayList<>();
+  private static final UrlTemplateMatcher matcher;
+
+  static {
+    for (int i = 0; i < RULE_COUNT; i++) {
+      rules.add(
+          new Rule(
+              Pattern.compile("^https://api\\.example\\.com/service" + i + "/items/[0-9]+$"),
+              "/service" + i + "/items/{id}",
+              false));
+    }
+    matcher = new UrlTemplateMatcher(rules);
+  }
+
+  @Benchmark
+  public String matcherMatchedUrl() {
+    return matcher.apply(matchedUrl, false);
+  }
+
+  @Benchmark
+  public String matcherUnmatchedUrl() {
+    return matcher.apply(unmatchedUrl, false);
+  }
+
+  @Benchmark
+  public String linearScanMatchedUrl() {
+    return linearScan(matchedUrl);
+  }
+
+  @Benchmark
+  public String linearScanUnmatchedUrl() {
+    return linearScan(unmatchedUrl);
+  }
+
+  // how the rules were applied before they were indexed by their literal prefix
+  private static String linearScan(String url) {
+    for (Rule rule : rules) {
+      String result = rule.getPattern().matcher(url).replaceFirst(rule.getReplacement());
+      if (!url.equals(result)) {
+        return result;
+      }
+    }
+    return null;
+  }
+}
@@ -46,6 +46,7 @@ import io.opentelemetry.javaagent.tooling.field.VirtualFieldImplementationInstal
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredClassLoadersMatcher;
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredTypesBuilderImpl;
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredTypesMatcher;
+import io.opentelemetry.javaagent.tooling.ignore.PersistentIgnoredTypesCache;
 import io.opentelemetry.javaagent.tooling.muzzle.AgentTooling;
 import io.opentelemetry.javaagent.tooling.util.Trie;
 import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
@@ -90,6 +91,11 @@ public class AgentInstaller {
   private static final String FORCE_SYNCHRONOUS_AGENT_LISTENERS_CONFIG =
       "otel.javaagent.experimental.force-synchronous-agent-listeners";
 
+  // Number of threads used to retransform the classes that were loaded before the agent was
+  // installed, 1 retransforms them on the thread that installs the agent
+  private static final String RETRANSFORMATION_THREADS_CONFIG =
+      "otel.javaagent.experimental.retransformation.threads";
+
   private static final String STRICT_CONTEXT_STRESSOR_MILLIS =
       "otel.javaagent.testing.strict-context-stressor-millis";
 
@@ -132,6 +138,12 @@ public class AgentInstaller {
     // https://bugs.openjdk.org/browse/JDK-8164165
     ThreadLocalRandom.current();
 
+    int retransformationThreads = earlyConfig.getInt(RETRANSFORMATION_THREADS_CONFIG, 1);
+    ParallelRetransformer parallelRetransformer =
+        retransformationThreads > 1
+            ? new ParallelRetransformer(inst, retransformationThreads)
+            : null;
+
     AgentBuilder agentBuilder =
         newAgentBuilder(
                 // default method graph compiler inspects the class hierarchy, we don't need it, so
@@ -141,9 +153,9 @@ public class AgentInstaller {
                     .with(VisibilityBridgeStrategy.Default.NEVER)
                     .with(InstrumentedType.Factory.Default.FROZEN))
             .with(AgentBuilder.TypeStrategy.Default.DECORATE)
-            .disableClassFormatChanges()
-            .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
-            .with(new RedefinitionDiscoveryStrategy())
+            .disableClassFormatChanges();
+    agentBuilder =
+        withRetransformation(agentBuilder, parallelRetransformer)
             .with(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY)
             .with(AgentTooling.poolStrategy())
             .with(AgentTooling.transformListener())
@@ -154,9 +166,7 @@ public class AgentInstaller {
     }
     if (logger.isLoggable(FINE)) {
       agentBuilder =
-          agentBuilder
-              .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
-              .with(new RedefinitionDiscoveryStrategy())
+          withRetransformation(agentBuilder, parallelRetransformer)
               .with(new RedefinitionLoggingListener())
               .with(new TransformLoggingListener());
     }
@@ -210,6 +220,9 @@ public class AgentInstaller {
 
     agentBuilder = AgentBuilderUtil.optimize(agentBuilder);
     ClassFileTransformer transformer = agentBuilder.installOn(inst);
+    if (parallelRetransformer != null) {
+      parallelRetransformer.awaitCompletion();
+    }
     LambdaTransformer lambdaTransformer;
     if (JavaModule.isSupported()) {
       // wrapping in a JPMS compliant implementation
@@ -228,6 +241,17 @@ public class AgentInstaller {
     runAfterAgentListeners(agentListeners, autoConfiguredSdk, sdkConfig);
   }
 
+  private static AgentBuilder.RedefinitionListenable withRetransformation(
+      AgentBuilder agentBuilder, @Nullable ParallelRetransformer parallelRetransformer) {
+    AgentBuilder.RedefinitionListenable.WithoutBatchStrategy retransforming =
+        agentBuilder.with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION);
+    if (parallelRetransformer == null) {
+      return retransforming.with(new RedefinitionDiscoveryStrategy());
+    }
+    // byte-buddy leaves retransforming the matched classes to the parallel retransformer
+    return retransforming.with(parallelRetransformer).with(new RedefinitionDiscoveryStrategy());
+  }
+
   private static AgentBuilder newAgentBuilder(ByteBuddy byteBuddy) {
     // AgentBuilder.Default constructor triggers sun.misc.Unsafe::objectFieldOffset called warning
     // AgentBuilder$Default.<init>
@@ -317,13 +341,23 @@ public class AgentInstaller {
     Trie<Boolean> ignoredTasksTrie = builder.buildIgnoredTasksTrie();
     InstrumentedTaskClasses.setIgnoredTaskClassesPredicate(ignoredTasksTrie::contains);
 
-    return agentBuilder
-        .ignore(any(), new IgnoredClassLoadersMatcher(builder.buildIgnoredClassLoadersTrie()))
-        .or(new IgnoredTypesMatcher(builder.buildIgnoredTypesTrie()))
-        .or(
-            (typeDescription, classLoader, module, classBeingRedefined, protectionDomain) -> {
-              return HelperInjector.isInjectedClass(classLoader, typeDescription.getName());
-            });
+    AgentBuilder.Ignored ignored =
+        agentBuilder
+            .ignore(any(), new IgnoredClassLoadersMatcher(builder.buildIgnoredClassLoadersTrie()))
+            .or(new IgnoredTypesMatcher(builder.buildIgnoredTypesTrie()))
+            .or(
+                (typeDescription, classLoader, module, classBeingRedefined, protectionDomain) -> {
+                  return HelperInjector.isInjectedClass(classLoader, typeDescription.getName());
+                });
+
+    PersistentIgnoredTypesCache persistentIgnoredTypesCache =
+        PersistentIgnoredTypesCache.create(config, builder.fingerprint());
+    if (persistentIgnoredTypesCache == null) {
+      return ignored;
+    }
+    return ignored
+        .or(persistentIgnoredTypesCache.matcher())
+        .with(persistentIgnoredTypesCache.listener());
   }
 
   private static void addHttpServerResponseCustomizers(ClassLoader extensionClassLoader) {
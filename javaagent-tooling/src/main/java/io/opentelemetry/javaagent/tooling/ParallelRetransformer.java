@@ -0,0 +1,121 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static java.util.logging.Level.FINE;
+
+import java.lang.instrument.Instrumentation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import net.bytebuddy.agent.builder.AgentBuilder;
+
+/**
+ * Retransforms the already loaded classes that byte-buddy matched for retransformation on a
+ * bounded pool of threads, instead of retransforming them one batch after another on the thread
+ * that installs the agent.
+ *
+ * <p>Byte-buddy passes the matched classes to this batch allocator, which splits them into batches
+ * and submits a {@link Instrumentation#retransformClasses(Class[])} call for each batch to the
+ * pool. It returns no batches to byte-buddy, so byte-buddy doesn't retransform the classes itself.
+ * The class file transformations of the different batches, which include evaluating the type
+ * matchers again and rewriting the bytecode, then run in parallel.
+ */
+final class ParallelRetransformer implements AgentBuilder.RedefinitionStrategy.BatchAllocator {
+
+  private static final Logger logger = Logger.getLogger(ParallelRetransformer.class.getName());
+
+  // split the classes into more batches than there are threads so that a slow batch doesn't
+  // leave the other threads idle
+  private static final int BATCHES_PER_THREAD = 4;
+
+  private final Instrumentation instrumentation;
+  private final int threads;
+  private final ForkJoinPool pool;
+  private final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+  private final AtomicInteger retransformedClasses = new AtomicInteger();
+  private final AtomicInteger failedClasses = new AtomicInteger();
+  private int submittedClasses;
+  private long startNanos;
+
+  ParallelRetransformer(Instrumentation instrumentation, int threads) {
+    this.instrumentation = instrumentation;
+    this.threads = threads;
+    this.pool = new ForkJoinPool(threads, ParallelRetransformer::newThread, null, false);
+  }
+
+  private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    thread.setName("otel-javaagent-retransform-" + thread.getPoolIndex());
+    return thread;
+  }
+
+  // called by byte-buddy on the thread that installs the agent, once for each round of class
+  // discovery
+  @Override
+  public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+    if (types.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (startNanos == 0) {
+      startNanos = System.nanoTime();
+    }
+    int batchSize = Math.max(1, types.size() / (threads * BATCHES_PER_THREAD));
+    for (int start = 0; start < types.size(); start += batchSize) {
+      List<Class<?>> batch =
+          new ArrayList<>(types.subList(start, Math.min(types.size(), start + batchSize)));
+      tasks.add(pool.submit(() -> retransform(batch)));
+    }
+    submittedClasses += types.size();
+    logger.log(
+        FINE, "Retransforming {0} classes on {1} threads", new Object[] {types.size(), threads});
+    return Collections.emptyList();
+  }
+
+  private void retransform(List<Class<?>> batch) {
+    try {
+      instrumentation.retransformClasses(batch.toArray(new Class<?>[0]));
+      int done = retransformedClasses.addAndGet(batch.size());
+      if (logger.isLoggable(FINE)) {
+        logger.log(FINE, "Retransformed {0} classes", done);
+      }
+    } catch (Throwable throwable) {
+      failedClasses.addAndGet(batch.size());
+      if (logger.isLoggable(FINE)) {
+        logger.log(
+            FINE,
+            "Exception while retransforming " + batch.size() + " classes: " + batch,
+            throwable);
+      }
+    }
+  }
+
+  /** Waits until all submitted classes are retransformed and stops the threads. */
+  void awaitCompletion() {
+    for (ForkJoinTask<?> task : tasks) {
+      // retransform() doesn't throw, failures are logged there
+      task.join();
+    }
+    pool.shutdown();
+    if (submittedClasses > 0) {
+      logger.log(
+          FINE,
+          "Retransformed {0} classes ({1} failed) on {2} threads in {3} ms",
+          new Object[] {
+            retransformedClasses.get(),
+            failedClasses.get(),
+            threads,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+          });
+    }
+  }
+}
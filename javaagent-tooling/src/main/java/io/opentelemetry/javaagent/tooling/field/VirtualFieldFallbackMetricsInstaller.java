@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.field;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.javaagent.bootstrap.field.VirtualFieldFallbackMetrics;
+import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
+import io.opentelemetry.javaagent.tooling.BeforeAgentListener;
+import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
+
+/** Registers the virtual field fallback map metrics when they are enabled. */
+@AutoService(BeforeAgentListener.class)
+public final class VirtualFieldFallbackMetricsInstaller implements BeforeAgentListener {
+
+  @Override
+  public void beforeAgent(AutoConfiguredOpenTelemetrySdk autoConfiguredOpenTelemetrySdk) {
+    boolean enabled =
+        AgentInstrumentationConfig.get()
+            .getBoolean(
+                "otel.javaagent.experimental.virtual-field.fallback-metrics.enabled", false);
+    if (!enabled) {
+      return;
+    }
+    VirtualFieldFallbackMetrics.registerMetrics(
+        autoConfiguredOpenTelemetrySdk
+            .getOpenTelemetrySdk()
+            .getMeter("io.opentelemetry.javaagent.virtual-field"));
+  }
+}
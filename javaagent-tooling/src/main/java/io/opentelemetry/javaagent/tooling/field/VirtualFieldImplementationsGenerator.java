@@ -5,18 +5,24 @@
 
 package io.opentelemetry.javaagent.tooling.field;
 
+import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.VIRTUAL_FIELD_FALLBACK_MAP_ACCESS;
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getRealGetterName;
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getRealSetterName;
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getVirtualFieldImplementationClassName;
+import static java.util.logging.Level.FINE;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
+import io.opentelemetry.javaagent.bootstrap.field.VirtualFieldFallbackMetrics;
 import io.opentelemetry.javaagent.extension.instrumentation.internal.AsmApi;
 import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.javaagent.tooling.muzzle.VirtualFieldMappings;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.AsmVisitorWrapper;
@@ -67,10 +73,12 @@ final class VirtualFieldImplementationsGenerator {
    */
   private DynamicType.Unloaded<?> makeVirtualFieldImplementationClass(
       String typeName, String fieldTypeName, FieldAccessorInterfaces fieldAccessorInterfaces) {
+    String className = getVirtualFieldImplementationClassName(typeName, fieldTypeName);
+    VirtualFieldFallbackMetrics.registerImplementation(className, typeName, fieldTypeName);
     return byteBuddy
         .rebase(VirtualFieldImplementationTemplate.class)
         .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL, SyntheticState.SYNTHETIC)
-        .name(getVirtualFieldImplementationClassName(typeName, fieldTypeName))
+        .name(className)
         .visit(
             getVirtualFieldImplementationVisitor(typeName, fieldTypeName, fieldAccessorInterfaces))
         .make();
@@ -266,10 +274,20 @@ final class VirtualFieldImplementationsGenerator {
   // Called from generated code
   @SuppressWarnings({"UnusedMethod", "UnusedVariable", "MethodCanBeStatic"})
   static final class VirtualFieldImplementationTemplate extends VirtualField<Object, Object> {
+    private static final Logger logger =
+        Logger.getLogger(VirtualFieldImplementationTemplate.class.getName());
     private static final VirtualFieldImplementationTemplate INSTANCE =
-        new VirtualFieldImplementationTemplate(Cache.weak());
+        new VirtualFieldImplementationTemplate(Cache.stripedWeak());
 
     private final Cache<Object, Object> map;
+    // the generated class name contains the names of the key and the field type
+    private final String fallbackCounterName =
+        VIRTUAL_FIELD_FALLBACK_MAP_ACCESS + " (" + getClass().getName() + ")";
+    private final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
+    private final LongAdder fallbackCount =
+        VirtualFieldFallbackMetrics.getCounter(getClass().getName());
+    // no lambdas or inner classes here, they would not be copied to the generated class
+    private final Cache<Class<?>, Boolean> reportedKeyClasses = Cache.weak();
 
     private VirtualFieldImplementationTemplate(Cache<Object, Object> map) {
       this.map = map;
@@ -295,10 +313,12 @@ final class VirtualFieldImplementationsGenerator {
     }
 
     private Object mapGet(Object key) {
+      reportFallback(key);
       return map.get(key);
     }
 
     private void mapPut(Object key, Object value) {
+      reportFallback(key);
       if (value == null) {
         map.remove(key);
       } else {
@@ -306,6 +326,25 @@ final class VirtualFieldImplementationsGenerator {
       }
     }
 
+    private void reportFallback(Object key) {
+      fallbackCount.increment();
+      supportability.incrementCounter(fallbackCounterName);
+      if (key == null || !logger.isLoggable(FINE)) {
+        return;
+      }
+      // report each class once, e.g. which executor task classes were loaded too early; a class
+      // can be reported twice when it falls back on two threads at the same time
+      Class<?> keyClass = key.getClass();
+      if (reportedKeyClasses.get(keyClass) == null) {
+        reportedKeyClasses.put(keyClass, Boolean.TRUE);
+        logger.log(
+            FINE,
+            "{0} stores the virtual field of {1} in a map, because {1} was loaded before the agent"
+                + " could add a field to it. This is slower than a field.",
+            new Object[] {getClass().getName(), keyClass.getName()});
+      }
+    }
+
     public static VirtualField<?, ?> getVirtualField(Class<?> keyClass, Class<?> contextClass) {
       // We do not actually check the keyClass here - but that should be fine since compiler would
       // check things for us.
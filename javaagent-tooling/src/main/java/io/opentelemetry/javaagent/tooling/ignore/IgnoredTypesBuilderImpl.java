@@ -5,18 +5,23 @@
 
 package io.opentelemetry.javaagent.tooling.ignore;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.javaagent.extension.ignore.IgnoredTypesBuilder;
 import io.opentelemetry.javaagent.tooling.util.Trie;
+import java.security.MessageDigest;
 
 public class IgnoredTypesBuilderImpl implements IgnoredTypesBuilder {
   private final Trie.Builder<IgnoreAllow> ignoredTypesTrie = Trie.builder();
   private final Trie.Builder<IgnoreAllow> ignoredClassLoadersTrie = Trie.builder();
   private final Trie.Builder<Boolean> ignoredTasksTrie = Trie.builder();
+  private final MessageDigest configurationDigest = PersistentIgnoredTypesCache.newDigest();
 
   @Override
   @CanIgnoreReturnValue
   public IgnoredTypesBuilder ignoreClass(String classNameOrPrefix) {
+    record("ignoreClass", classNameOrPrefix);
     ignoredTypesTrie.put(classNameOrPrefix, IgnoreAllow.IGNORE);
     return this;
   }
@@ -24,6 +29,7 @@ public class IgnoredTypesBuilderImpl implements IgnoredTypesBuilder {
   @Override
   @CanIgnoreReturnValue
   public IgnoredTypesBuilder allowClass(String classNameOrPrefix) {
+    record("allowClass", classNameOrPrefix);
     ignoredTypesTrie.put(classNameOrPrefix, IgnoreAllow.ALLOW);
     return this;
   }
@@ -31,6 +37,7 @@ public class IgnoredTypesBuilderImpl implements IgnoredTypesBuilder {
   @Override
   @CanIgnoreReturnValue
   public IgnoredTypesBuilder ignoreClassLoader(String classNameOrPrefix) {
+    record("ignoreClassLoader", classNameOrPrefix);
     ignoredClassLoadersTrie.put(classNameOrPrefix, IgnoreAllow.IGNORE);
     return this;
   }
@@ -38,6 +45,7 @@ public class IgnoredTypesBuilderImpl implements IgnoredTypesBuilder {
   @Override
   @CanIgnoreReturnValue
   public IgnoredTypesBuilder allowClassLoader(String classNameOrPrefix) {
+    record("allowClassLoader", classNameOrPrefix);
     ignoredClassLoadersTrie.put(classNameOrPrefix, IgnoreAllow.ALLOW);
     return this;
   }
@@ -45,10 +53,23 @@ public class IgnoredTypesBuilderImpl implements IgnoredTypesBuilder {
   @Override
   @CanIgnoreReturnValue
   public IgnoredTypesBuilder ignoreTaskClass(String classNameOrPrefix) {
+    record("ignoreTaskClass", classNameOrPrefix);
     ignoredTasksTrie.put(classNameOrPrefix, true);
     return this;
   }
 
+  private void record(String operation, String classNameOrPrefix) {
+    configurationDigest.update((operation + ' ' + classNameOrPrefix + '\n').getBytes(UTF_8));
+  }
+
+  /**
+   * Returns a fingerprint of all the calls made to this builder, used to detect configuration
+   * changes that invalidate the {@link PersistentIgnoredTypesCache}.
+   */
+  public String fingerprint() {
+    return PersistentIgnoredTypesCache.toHex(configurationDigest.digest());
+  }
+
   public Trie<IgnoreAllow> buildIgnoredTypesTrie() {
     return ignoredTypesTrie.build();
   }
@@ -5,12 +5,38 @@
 
 package io.opentelemetry.javaagent.tooling.ignore;
 
+import io.opentelemetry.javaagent.tooling.util.SubstringMatcher;
 import io.opentelemetry.javaagent.tooling.util.Trie;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 
 public class IgnoredTypesMatcher extends ElementMatcher.Junction.AbstractBase<TypeDescription> {
 
+  // the substrings that are checked are found with a single pass over the class name
+  private static final SubstringMatcher PROXY_NAME_PATTERNS =
+      new SubstringMatcher(
+          "$$",
+          "$$Lambda$",
+          "$$anon$",
+          "$$anonfun$",
+          "$JaxbAccessor",
+          "CGLIB$$",
+          "javassist",
+          ".asm.",
+          "$__sisu",
+          "$$EnhancerByProxool$$",
+          // glassfish ejb proxy
+          // We skip instrumenting these because some instrumentations e.g. jax-rs instrument
+          // methods that are annotated with @Path in an interface implemented by the class. We
+          // don't really want to instrument these methods in generated classes as this would
+          // create spans that have the generated class name in them instead of the actual class
+          // that handles the call.
+          "__EJB31_Generated__");
+  private static final long DOUBLE_DOLLAR = 1L;
+  private static final long LAMBDA = 1L << 1;
+  private static final long SCALA_ANONYMOUS = (1L << 2) | (1L << 3);
+  private static final long GENERATED = ~(DOUBLE_DOLLAR | LAMBDA | SCALA_ANONYMOUS);
+
   private final Trie<IgnoreAllow> ignoredTypes;
 
   public IgnoredTypesMatcher(Trie<IgnoreAllow> ignoredTypes) {
@@ -28,31 +54,26 @@ public class IgnoredTypesMatcher extends ElementMatcher.Junction.AbstractBase<Ty
       return true;
     }
 
+    if (name.indexOf('$') == -1 && name.indexOf('_') == -1) {
+      // all other patterns contain '$' or '_', which are rare in class names; finding a char is
+      // much faster than running the automaton over the whole name
+      return name.contains("javassist") || name.contains(".asm.") || isC3p0Proxy(name);
+    }
+    long found = PROXY_NAME_PATTERNS.match(name);
     // bytecode proxies typically have $$ in their name
-    if (name.contains("$$") && !name.contains("$$Lambda$") && !name.endsWith("$$Lambda")) {
+    if ((found & DOUBLE_DOLLAR) != 0 && (found & LAMBDA) == 0 && !name.endsWith("$$Lambda")) {
       // allow scala anonymous classes
-      return !name.contains("$$anon$") && !name.contains("$$anonfun$");
+      return (found & SCALA_ANONYMOUS) == 0;
     }
 
-    if (name.contains("$JaxbAccessor")
-        || name.contains("CGLIB$$")
-        || name.contains("javassist")
-        || name.contains(".asm.")
-        || name.contains("$__sisu")
-        || name.contains("$$EnhancerByProxool$$")
-        // glassfish ejb proxy
-        // We skip instrumenting these because some instrumentations e.g. jax-rs instrument methods
-        // that are annotated with @Path in an interface implemented by the class. We don't really
-        // want to instrument these methods in generated classes as this would create spans that
-        // have the generated class name in them instead of the actual class that handles the call.
-        || name.contains("__EJB31_Generated__")) {
+    if ((found & GENERATED) != 0) {
       return true;
     }
 
-    if (name.startsWith("com.mchange.v2.c3p0.") && name.endsWith("Proxy")) {
-      return true;
-    }
+    return isC3p0Proxy(name);
+  }
 
-    return false;
+  private static boolean isC3p0Proxy(String name) {
+    return name.startsWith("com.mchange.v2.c3p0.") && name.endsWith("Proxy");
   }
 }
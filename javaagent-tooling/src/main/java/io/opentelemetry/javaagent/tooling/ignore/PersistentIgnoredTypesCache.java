@@ -0,0 +1,522 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.ignore;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.javaagent.bootstrap.JavaagentFileHolder;
+import io.opentelemetry.javaagent.tooling.AgentVersion;
+import io.opentelemetry.javaagent.tooling.ExtensionClassLoader;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.utility.JavaModule;
+
+/**
+ * Remembers across agent restarts which classes were not transformed by any instrumentation, so
+ * that on the next start with the same class path these classes can be ignored without evaluating
+ * the type matchers of every instrumentation module (which requires parsing the class and its super
+ * types).
+ *
+ * <p>Classes are keyed by the context of the class loader that loads them and by the jar file they
+ * were loaded from. The context of a class loader consists of its type, the jars it loads classes
+ * from (identified by their location, size and last modification time) and the context of its
+ * parent, so a verdict is reused only when the class and all types it can see are loaded from the
+ * same jars. Only {@link URLClassLoader}s and the application class loader that load classes
+ * exclusively from jar files have a context. The whole file is discarded when the agent, its
+ * extensions, the ignored types configuration, the Java version or the configuration changed.
+ */
+public final class PersistentIgnoredTypesCache {
+
+  private static final Logger logger =
+      Logger.getLogger(PersistentIgnoredTypesCache.class.getName());
+
+  static final String CACHE_FILE_CONFIG = "otel.javaagent.experimental.ignored-types-cache.file";
+
+  private static final int MAGIC = 0x4f54454c;
+  private static final int FORMAT_VERSION = 2;
+
+  private static final String APP_CLASS_LOADER = "jdk.internal.loader.ClassLoaders$AppClassLoader";
+  private static final String PLATFORM_CLASS_LOADER =
+      "jdk.internal.loader.ClassLoaders$PlatformClassLoader";
+
+  private final Path file;
+  private final String fingerprint;
+  // class loader context and jar location -> class names that were not transformed in the
+  // previous run
+  private final Map<String, Set<String>> persistedIgnoredTypes;
+  // class loader context and jar location -> state of the jar in this run
+  private final Map<String, JarState> jars = new ConcurrentHashMap<>();
+  private final Cache<ClassLoader, LoaderState> loaders = Cache.weak();
+  private final ThreadLocal<PendingType> pendingType = new ThreadLocal<>();
+
+  /**
+   * Returns the cache that is configured with {@code
+   * otel.javaagent.experimental.ignored-types-cache.file}, or {@code null} when the cache is not
+   * enabled. The cache is written back to the file when the JVM shuts down.
+   *
+   * @param ignoredTypesFingerprint the {@linkplain IgnoredTypesBuilderImpl#fingerprint()
+   *     fingerprint} of the ignored types configuration
+   */
+  @Nullable
+  public static PersistentIgnoredTypesCache create(
+      ConfigProperties config, String ignoredTypesFingerprint) {
+    String fileName = config.getString(CACHE_FILE_CONFIG);
+    if (fileName == null || fileName.isEmpty()) {
+      return null;
+    }
+    Path file = Paths.get(fileName);
+    PersistentIgnoredTypesCache cache =
+        new PersistentIgnoredTypesCache(
+            file, configurationFingerprint(config, ignoredTypesFingerprint));
+    Thread thread = new Thread(cache::save, "otel-ignored-types-cache-writer");
+    Runtime.getRuntime().addShutdownHook(thread);
+    return cache;
+  }
+
+  // visible for testing
+  PersistentIgnoredTypesCache(Path file, String fingerprint) {
+    this.file = file;
+    this.fingerprint = fingerprint;
+    this.persistedIgnoredTypes = load(file, fingerprint);
+  }
+
+  /**
+   * Returns a matcher that ignores the classes that were not transformed in the previous run. It
+   * must be added to the ignore matchers of the agent builder.
+   */
+  public AgentBuilder.RawMatcher matcher() {
+    return this::matches;
+  }
+
+  /** Returns a listener that records the classes that were not transformed in this run. */
+  public AgentBuilder.Listener listener() {
+    return new RecordingListener();
+  }
+
+  private boolean matches(
+      TypeDescription typeDescription,
+      @Nullable ClassLoader classLoader,
+      @Nullable JavaModule module,
+      @Nullable Class<?> classBeingRedefined,
+      @Nullable ProtectionDomain protectionDomain) {
+    // only consider classes that are being loaded, retransformation is not on the startup path
+    if (classBeingRedefined != null || protectionDomain == null) {
+      return false;
+    }
+    JarState jar = getJarState(classLoader, protectionDomain.getCodeSource());
+    if (jar == null) {
+      return false;
+    }
+    String typeName = typeDescription.getName();
+    pendingType.set(new PendingType(jar, typeName));
+    return jar.persistedIgnoredTypes.contains(typeName);
+  }
+
+  @Nullable
+  private JarState getJarState(@Nullable ClassLoader classLoader, @Nullable CodeSource codeSource) {
+    if (classLoader == null || codeSource == null || codeSource.getLocation() == null) {
+      return null;
+    }
+    LoaderState loader = loaders.computeIfAbsent(classLoader, this::createLoaderState);
+    if (loader == LoaderState.UNSUPPORTED) {
+      return null;
+    }
+    JarState jar = loader.jars.computeIfAbsent(codeSource, cs -> createJarState(loader, cs));
+    return jar == JarState.UNSUPPORTED ? null : jar;
+  }
+
+  private LoaderState createLoaderState(ClassLoader classLoader) {
+    String context = loaderContext(classLoader);
+    if (context == null) {
+      logger.log(FINE, "Not caching ignored types of class loader {0}", classLoader);
+      return LoaderState.UNSUPPORTED;
+    }
+    return new LoaderState(digest(context));
+  }
+
+  private JarState createJarState(LoaderState loader, CodeSource codeSource) {
+    URL location = codeSource.getLocation();
+    if (toJarFile(location) == null) {
+      // e.g. a class that was defined from a directory by a class loader that loads from jars
+      return JarState.UNSUPPORTED;
+    }
+    String key = loader.context + ' ' + location;
+    return jars.computeIfAbsent(
+        key,
+        k ->
+            new JarState(
+                k,
+                location.toString(),
+                persistedIgnoredTypes.getOrDefault(k, Collections.emptySet())));
+  }
+
+  /**
+   * Returns a description of the classes that the given class loader and its parents can load, or
+   * {@code null} if these can't be determined.
+   */
+  // visible for testing
+  @Nullable
+  static String loaderContext(@Nullable ClassLoader classLoader) {
+    if (classLoader == null) {
+      return "bootstrap";
+    }
+    String className = classLoader.getClass().getName();
+    if (className.equals(PLATFORM_CLASS_LOADER)) {
+      // loads only jdk modules, which are covered by the java version
+      return className;
+    }
+    StringBuilder context = new StringBuilder(className);
+    if (classLoader instanceof URLClassLoader) {
+      for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+        Path jar = toJarFile(url);
+        if (jar == null || !appendJar(context, url.toString(), jar.toFile())) {
+          return null;
+        }
+      }
+    } else if (className.equals(APP_CLASS_LOADER)) {
+      String classPath = System.getProperty("java.class.path", "");
+      for (String entry : classPath.split(File.pathSeparator)) {
+        if (!entry.isEmpty() && !appendJar(context, entry, new File(entry))) {
+          return null;
+        }
+      }
+    } else {
+      return null;
+    }
+    String parentContext = loaderContext(classLoader.getParent());
+    if (parentContext == null) {
+      return null;
+    }
+    return context.append(" < ").append(parentContext).toString();
+  }
+
+  private static boolean appendJar(StringBuilder context, String location, File jar) {
+    JarFingerprint jarFingerprint = JarFingerprint.of(jar);
+    if (jarFingerprint == null) {
+      // classes in directories or remote locations can change without us noticing
+      return false;
+    }
+    context.append(' ').append(location).append('=').append(jarFingerprint);
+    return true;
+  }
+
+  /**
+   * Returns whether the class loader loads the class file of the given type from the given code
+   * source location. This is not the case for classes that are generated at runtime and defined
+   * with the protection domain of a jar.
+   */
+  private static boolean isLoadedFrom(ClassLoader classLoader, String typeName, String location) {
+    URL resource = classLoader.getResource(typeName.replace('.', '/') + ".class");
+    return resource != null
+        && stripJarUrl(resource.toString()).startsWith(stripJarUrl(location) + "!/");
+  }
+
+  private static String stripJarUrl(String url) {
+    if (url.startsWith("jar:")) {
+      url = url.substring("jar:".length());
+    }
+    if (url.endsWith("!/")) {
+      url = url.substring(0, url.length() - "!/".length());
+    }
+    return url;
+  }
+
+  // visible for testing
+  void save() {
+    Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(fingerprint);
+        out.writeInt(jars.size());
+        for (JarState jar : jars.values()) {
+          // copy to get a consistent count, classes can still be loaded during shutdown
+          Set<String> ignoredTypes = new HashSet<>(jar.ignoredTypes);
+          out.writeUTF(jar.key);
+          out.writeInt(ignoredTypes.size());
+          for (String typeName : ignoredTypes) {
+            out.writeUTF(typeName);
+          }
+        }
+      }
+      try {
+        Files.move(
+            tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.log(WARNING, "Failed to write ignored types cache " + file, e);
+    }
+  }
+
+  private static Map<String, Set<String>> load(Path file, String fingerprint) {
+    if (!Files.isRegularFile(file)) {
+      return Collections.emptyMap();
+    }
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        logger.log(FINE, "Ignoring ignored types cache {0} with unknown format", file);
+        return Collections.emptyMap();
+      }
+      if (!fingerprint.equals(in.readUTF())) {
+        logger.log(FINE, "Agent or configuration changed, ignoring {0}", file);
+        return Collections.emptyMap();
+      }
+      Map<String, Set<String>> result = new HashMap<>();
+      int jarCount = in.readInt();
+      for (int i = 0; i < jarCount; i++) {
+        String key = in.readUTF();
+        int typeCount = in.readInt();
+        Set<String> typeNames = new HashSet<>();
+        for (int j = 0; j < typeCount; j++) {
+          typeNames.add(in.readUTF());
+        }
+        result.put(key, typeNames);
+      }
+      return result;
+    } catch (IOException | RuntimeException e) {
+      logger.log(WARNING, "Failed to read ignored types cache " + file, e);
+      return Collections.emptyMap();
+    }
+  }
+
+  /**
+   * Returns the file that contains the classes from the given code source location, e.g. {@code
+   * /app.jar} for both {@code file:/app.jar} and {@code jar:file:/app.jar!/BOOT-INF/lib/lib.jar!/}.
+   */
+  // visible for testing
+  @Nullable
+  static Path toJarFile(URL location) {
+    String path = location.toString();
+    if (path.startsWith("jar:")) {
+      path = path.substring("jar:".length());
+    }
+    if (path.startsWith("nested:")) {
+      // spring boot 3.2+ nested jar url: jar:nested:/app.jar/!BOOT-INF/lib/lib.jar!/
+      path = path.substring("nested:".length());
+      int separator = path.indexOf("/!");
+      return Paths.get(separator != -1 ? path.substring(0, separator) : path);
+    }
+    int separator = path.indexOf("!/");
+    if (separator != -1) {
+      path = path.substring(0, separator);
+    }
+    if (!path.startsWith("file:")) {
+      return null;
+    }
+    try {
+      return Paths.get(new URI(path));
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static String configurationFingerprint(
+      ConfigProperties config, String ignoredTypesFingerprint) {
+    // the configuration decides which instrumentations are enabled and what they match
+    Map<String, String> settings = new TreeMap<>();
+    System.getProperties()
+        .forEach(
+            (key, value) -> {
+              if (key instanceof String && ((String) key).startsWith("otel.")) {
+                settings.put((String) key, String.valueOf(value));
+              }
+            });
+    System.getenv()
+        .forEach(
+            (key, value) -> {
+              if (key.startsWith("OTEL_")) {
+                settings.put(key, value);
+              }
+            });
+    String configurationFile = config.getString("otel.javaagent.configuration-file");
+    if (configurationFile != null) {
+      putFileFingerprint(settings, "configuration-file", new File(configurationFile));
+    }
+    // the instrumentations are packaged in the agent jar and in the extensions
+    File javaagentFile = JavaagentFileHolder.getJavaagentFile();
+    if (javaagentFile != null) {
+      putFileFingerprint(settings, "agent", javaagentFile);
+    }
+    String extensions = config.getString(ExtensionClassLoader.EXTENSIONS_CONFIG, "");
+    for (String extension : extensions.split(",")) {
+      File extensionFile = new File(extension.trim());
+      File[] files = extensionFile.listFiles();
+      if (files != null) {
+        Arrays.sort(files);
+        for (File file : files) {
+          putFileFingerprint(settings, "extension", file);
+        }
+      } else {
+        putFileFingerprint(settings, "extension", extensionFile);
+      }
+    }
+    settings.put("ignored-types", ignoredTypesFingerprint);
+    return AgentVersion.VERSION
+        + ' '
+        + System.getProperty("java.version")
+        + ' '
+        + digest(settings.toString());
+  }
+
+  private static void putFileFingerprint(Map<String, String> settings, String kind, File file) {
+    JarFingerprint fileFingerprint = JarFingerprint.of(file);
+    if (fileFingerprint != null) {
+      settings.put(kind + ' ' + file.getAbsolutePath(), fileFingerprint.toString());
+    }
+  }
+
+  static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static String toHex(byte[] bytes) {
+    StringBuilder result = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      result.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+    }
+    return result.toString();
+  }
+
+  private static String digest(String value) {
+    return toHex(newDigest().digest(value.getBytes(UTF_8)));
+  }
+
+  private final class RecordingListener extends AgentBuilder.Listener.Adapter {
+
+    @Override
+    public void onIgnored(
+        TypeDescription typeDescription,
+        @Nullable ClassLoader classLoader,
+        @Nullable JavaModule module,
+        boolean loaded) {
+      PendingType pending = pendingType.get();
+      if (pending == null
+          || loaded
+          || classLoader == null
+          || !pending.typeName.equals(typeDescription.getName())) {
+        return;
+      }
+      JarState jar = pending.jar;
+      if (jar.persistedIgnoredTypes.contains(pending.typeName)
+          || isLoadedFrom(classLoader, pending.typeName, jar.location)) {
+        jar.ignoredTypes.add(pending.typeName);
+      }
+    }
+
+    @Override
+    public void onComplete(
+        String typeName,
+        @Nullable ClassLoader classLoader,
+        @Nullable JavaModule module,
+        boolean loaded) {
+      pendingType.remove();
+    }
+  }
+
+  private static final class PendingType {
+    final JarState jar;
+    final String typeName;
+
+    PendingType(JarState jar, String typeName) {
+      this.jar = jar;
+      this.typeName = typeName;
+    }
+  }
+
+  private static final class LoaderState {
+    static final LoaderState UNSUPPORTED = new LoaderState("");
+
+    final String context;
+    final Cache<CodeSource, JarState> jars = Cache.weak();
+
+    LoaderState(String context) {
+      this.context = context;
+    }
+  }
+
+  private static final class JarState {
+    static final JarState UNSUPPORTED = new JarState("", "", Collections.emptySet());
+
+    final String key;
+    final String location;
+    final Set<String> persistedIgnoredTypes;
+    final Set<String> ignoredTypes = ConcurrentHashMap.newKeySet();
+
+    JarState(String key, String location, Set<String> persistedIgnoredTypes) {
+      this.key = key;
+      this.location = location;
+      this.persistedIgnoredTypes = persistedIgnoredTypes;
+    }
+  }
+
+  private static final class JarFingerprint {
+    final long size;
+    final long lastModified;
+
+    JarFingerprint(long size, long lastModified) {
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    @Nullable
+    static JarFingerprint of(File file) {
+      // File doesn't throw for paths that are invalid on this platform
+      return file.isFile() ? new JarFingerprint(file.length(), file.lastModified()) : null;
+    }
+
+    @Override
+    public String toString() {
+      return size + ":" + lastModified;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import javax.annotation.Nullable;
+
+/**
+ * Computes a fingerprint of the classes that a {@link URLClassLoader} can load by itself, i.e.
+ * without delegating to its parent. Two class loaders of the same type with the same parent and the
+ * same fingerprint resolve muzzle references the same way, so they can share a muzzle verdict. This
+ * is the case for e.g. multiple applications that load the same shared library jars.
+ *
+ * <p>Jars are identified by their absolute path, size and last modification time. Class loaders
+ * that load classes from directories are not fingerprinted: the content of a directory can't be
+ * identified cheaply, and it may contain library classes as well as application classes.
+ */
+final class ClassLoaderFingerprint {
+
+  // fingerprint of class loaders that can't be fingerprinted, caches can't contain null values
+  private static final String NONE = "";
+
+  private static final Cache<ClassLoader, Fingerprint> fingerprints = Cache.weak();
+
+  /**
+   * Returns the fingerprint of the given class loader, or {@code null} if the classes the class
+   * loader can load cannot be determined.
+   */
+  @Nullable
+  static String get(ClassLoader classLoader) {
+    if (!(classLoader instanceof URLClassLoader)) {
+      return null;
+    }
+    URL[] urls = ((URLClassLoader) classLoader).getURLs();
+    Fingerprint fingerprint = fingerprints.get(classLoader);
+    // URLClassLoader can only add urls, a different count means that the fingerprint is stale
+    if (fingerprint == null || fingerprint.urlCount != urls.length) {
+      fingerprint = new Fingerprint(urls.length, compute(classLoader, urls));
+      fingerprints.put(classLoader, fingerprint);
+    }
+    return fingerprint.value.isEmpty() ? null : fingerprint.value;
+  }
+
+  private static String compute(ClassLoader classLoader, URL[] urls) {
+    StringBuilder fingerprint = new StringBuilder(classLoader.getClass().getName());
+    for (URL url : urls) {
+      if (!"file".equals(url.getProtocol())) {
+        return NONE;
+      }
+      File file;
+      try {
+        file = new File(url.toURI());
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        return NONE;
+      }
+      // directories and missing files (that can be created later) can't be identified
+      if (!file.isFile()) {
+        return NONE;
+      }
+      fingerprint
+          .append('|')
+          .append(file.getAbsolutePath())
+          .append(':')
+          .append(file.length())
+          .append(':')
+          .append(file.lastModified());
+    }
+    return fingerprint.toString();
+  }
+
+  private static final class Fingerprint {
+    final int urlCount;
+    final String value;
+
+    Fingerprint(int urlCount, String value) {
+      this.urlCount = urlCount;
+      this.value = value;
+    }
+  }
+
+  private ClassLoaderFingerprint() {}
+}
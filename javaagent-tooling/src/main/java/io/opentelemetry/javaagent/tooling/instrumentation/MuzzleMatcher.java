@@ -21,6 +21,8 @@ import io.opentelemetry.javaagent.tooling.muzzle.ReferenceMatcher;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import java.security.ProtectionDomain;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,11 +39,18 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
 
   private static final Logger muzzleLogger = Logger.getLogger(MuzzleMatcher.class.getName());
 
+  // share muzzle verdicts between class loaders with the same parent that load the same jars
+  static final String SHARE_VERDICTS_CONFIG =
+      "otel.javaagent.experimental.muzzle.share-verdicts-between-class-loaders";
+
   private final TransformSafeLogger instrumentationLogger;
   private final InstrumentationModule instrumentationModule;
   private final Level muzzleLogLevel;
   private final AtomicBoolean initialized = new AtomicBoolean(false);
   private final Cache<ClassLoader, Boolean> matchCache = Cache.weak();
+  private final boolean shareVerdicts;
+  // parent class loader -> class loader fingerprint -> verdict
+  private final Cache<ClassLoader, Map<String, Boolean>> sharedVerdicts = Cache.weak();
   private volatile ReferenceMatcher referenceMatcher;
 
   MuzzleMatcher(
@@ -51,6 +60,7 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
     this.instrumentationLogger = instrumentationLogger;
     this.instrumentationModule = instrumentationModule;
     this.muzzleLogLevel = AgentConfig.isDebugModeEnabled(config) ? WARNING : FINE;
+    this.shareVerdicts = config.getBoolean(SHARE_VERDICTS_CONFIG, false);
   }
 
   @Override
@@ -63,21 +73,53 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
     if (classLoader == BOOTSTRAP_LOADER) {
       classLoader = Utils.getBootstrapProxy();
     }
-    if (instrumentationModule.isIndyModule()) {
-      return matchCache.computeIfAbsent(
-          classLoader,
-          cl -> {
-            InstrumentationModuleClassLoader moduleCl =
-                IndyModuleRegistry.createInstrumentationClassLoaderWithoutRegistration(
-                    instrumentationModule, cl);
-            return doesMatch(moduleCl);
-          });
-    } else {
-      return matchCache.computeIfAbsent(classLoader, this::doesMatch);
+    return matchCache.computeIfAbsent(classLoader, this::computeMatch);
+  }
+
+  private boolean computeMatch(ClassLoader classLoader) {
+    String fingerprint = shareVerdicts ? ClassLoaderFingerprint.get(classLoader) : null;
+    if (fingerprint == null) {
+      return doesMatch(classLoader);
+    }
+
+    // class loaders with the same parent and the same jars resolve the references the same way
+    ClassLoader parent = classLoader.getParent();
+    Map<String, Boolean> verdicts =
+        sharedVerdicts.computeIfAbsent(
+            parent != null ? parent : Utils.getBootstrapProxy(),
+            unused -> new ConcurrentHashMap<>());
+    Boolean verdict = verdicts.get(fingerprint);
+    if (verdict != null) {
+      if (muzzleLogger.isLoggable(FINE)) {
+        muzzleLogger.log(
+            FINE,
+            "Reusing muzzle verdict {0} of an identical class loader: {1} [class {2}] on {3}",
+            new Object[] {
+              verdict,
+              instrumentationModule.instrumentationName(),
+              instrumentationModule.getClass().getName(),
+              classLoader
+            });
+      }
+      return verdict;
     }
+    // not using computeIfAbsent, matching can load classes and recursively call this matcher
+    boolean isMatch = doesMatch(classLoader);
+    verdicts.putIfAbsent(fingerprint, isMatch);
+    return isMatch;
   }
 
   private boolean doesMatch(ClassLoader classLoader) {
+    if (instrumentationModule.isIndyModule()) {
+      InstrumentationModuleClassLoader moduleCl =
+          IndyModuleRegistry.createInstrumentationClassLoaderWithoutRegistration(
+              instrumentationModule, classLoader);
+      return doesMatchReferences(moduleCl);
+    }
+    return doesMatchReferences(classLoader);
+  }
+
+  private boolean doesMatchReferences(ClassLoader classLoader) {
     ReferenceMatcher muzzle = getReferenceMatcher();
     boolean isMatch = muzzle.matches(classLoader);
 
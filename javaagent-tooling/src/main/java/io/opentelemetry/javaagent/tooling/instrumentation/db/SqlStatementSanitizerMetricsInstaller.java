@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation.db;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlStatementSanitizerCacheMetrics;
+import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
+import io.opentelemetry.javaagent.tooling.BeforeAgentListener;
+import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
+
+/** Registers the SQL statement sanitizer cache metrics when they are enabled. */
+@AutoService(BeforeAgentListener.class)
+public final class SqlStatementSanitizerMetricsInstaller implements BeforeAgentListener {
+
+  @Override
+  public void beforeAgent(AutoConfiguredOpenTelemetrySdk autoConfiguredOpenTelemetrySdk) {
+    boolean enabled =
+        AgentInstrumentationConfig.get()
+            .getBoolean(
+                "otel.instrumentation.experimental.db-statement-sanitizer.cache-metrics.enabled",
+                false);
+    if (!enabled) {
+      return;
+    }
+    SqlStatementSanitizerCacheMetrics.registerMetrics(
+        autoConfiguredOpenTelemetrySdk
+            .getOpenTelemetrySdk()
+            .getMeter("io.opentelemetry.sql-statement-sanitizer"));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation.http;
+
+import io.opentelemetry.javaagent.tooling.instrumentation.http.UrlTemplateRules.Rule;
+import io.opentelemetry.javaagent.tooling.util.Trie;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * Applies the url template rules to a url. Every rule pattern starts with a literal prefix (e.g.
+ * {@code https://api\.example\.com/users/} for {@code ^https://api\.example\.com/users/\d+$}) that
+ * a url has to start with for the pattern to match. The rules are indexed by these prefixes in a
+ * trie, so a single lookup returns only the rules that can match the url, in the order in which
+ * they were added. Only these rules have to run their regex.
+ */
+final class UrlTemplateMatcher {
+
+  // chars that end the literal prefix of a pattern
+  private static final String META_CHARS = ".[]{}()*+?^$";
+
+  private final Rule[] rules;
+  private final Trie<int[]> candidatesByPrefix;
+  // rules without a literal prefix, these can match any url
+  private final int[] unprefixedCandidates;
+
+  UrlTemplateMatcher(List<Rule> rules) {
+    this.rules = rules.toArray(new Rule[0]);
+
+    String[] prefixes = new String[this.rules.length];
+    Set<String> distinctPrefixes = new LinkedHashSet<>();
+    for (int i = 0; i < prefixes.length; i++) {
+      prefixes[i] = literalPrefix(this.rules[i].getPattern());
+      distinctPrefixes.add(prefixes[i]);
+    }
+
+    // the trie returns the value of the longest matching prefix, so the value of every prefix
+    // contains all the rules whose prefix is a prefix of it
+    Trie.Builder<int[]> builder = Trie.builder();
+    for (String prefix : distinctPrefixes) {
+      if (!prefix.isEmpty()) {
+        builder.put(prefix, candidates(prefixes, prefix));
+      }
+    }
+    candidatesByPrefix = builder.build();
+    unprefixedCandidates = candidates(prefixes, "");
+  }
+
+  private static int[] candidates(String[] prefixes, String prefix) {
+    List<Integer> candidates = new ArrayList<>();
+    for (int i = 0; i < prefixes.length; i++) {
+      if (prefix.startsWith(prefixes[i])) {
+        candidates.add(i);
+      }
+    }
+    int[] result = new int[candidates.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = candidates.get(i);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the url template produced by the first rule that matches the url, or {@code null} when
+   * no rule matches. When {@code overrideOnly} is set only the rules that override the url template
+   * set by the instrumentation are used.
+   */
+  @Nullable
+  String apply(String url, boolean overrideOnly) {
+    for (int index : candidatesByPrefix.getOrDefault(url, unprefixedCandidates)) {
+      Rule rule = rules[index];
+      if (overrideOnly && !rule.getOverride()) {
+        continue;
+      }
+
+      // to generate the url template, we apply the regex replacement on the full url
+      String result = rule.getPattern().matcher(url).replaceFirst(rule.getReplacement());
+      if (!url.equals(result)) {
+        return result;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the literal text that every string matched by the pattern starts with. The prefix is
+   * empty when it can't be determined safely, e.g. when the pattern uses flags or alternation.
+   */
+  static String literalPrefix(Pattern pattern) {
+    String regex = pattern.pattern();
+    if (pattern.flags() != 0 || !regex.startsWith("^") || regex.indexOf('|') != -1) {
+      return "";
+    }
+
+    StringBuilder prefix = new StringBuilder();
+    for (int i = 1; i < regex.length(); i++) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        // an escaped letter or digit is a character class, back reference etc.
+        if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+          break;
+        }
+        c = regex.charAt(++i);
+      } else if (META_CHARS.indexOf(c) != -1) {
+        // these quantifiers allow the previous char to be absent
+        if ((c == '?' || c == '*' || c == '{') && prefix.length() > 0) {
+          prefix.setLength(prefix.length() - 1);
+        }
+        break;
+      }
+      prefix.append(c);
+    }
+    return prefix.toString();
+  }
+}
@@ -11,15 +11,27 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 
 final class UrlTemplateRules {
   private static final Logger logger = Logger.getLogger(UrlTemplateRules.class.getName());
   private static final List<Rule> rules = new ArrayList<>();
+  // built from the rules when it's first used, rules are only added before the agent starts
+  @Nullable private static volatile UrlTemplateMatcher matcher;
 
   static List<Rule> getRules() {
     return rules;
   }
 
+  static UrlTemplateMatcher getMatcher() {
+    UrlTemplateMatcher result = matcher;
+    if (result == null) {
+      result = new UrlTemplateMatcher(rules);
+      matcher = result;
+    }
+    return result;
+  }
+
   static void addRule(Pattern pattern, String replacement, boolean override) {
     logger.log(
         FINE,
@@ -27,6 +39,7 @@ final class UrlTemplateRules {
         new Object[] {pattern, replacement, override});
 
     rules.add(new Rule(pattern, replacement, override));
+    matcher = null;
   }
 
   static final class Rule {
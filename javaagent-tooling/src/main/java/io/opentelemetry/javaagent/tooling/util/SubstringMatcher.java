@@ -0,0 +1,154 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeSet;
+
+/**
+ * Finds which of up to 64 patterns occur in a string with a single pass over the string (an
+ * Aho-Corasick automaton compiled into a transition table).
+ */
+public final class SubstringMatcher {
+
+  private static final int ROOT = 0;
+
+  private static final int MAX_ALPHABET_SIZE = 256;
+  // set on transitions into states in which at least one pattern ends
+  private static final int HAS_MATCHES = Integer.MIN_VALUE;
+
+  // maps chars to their codes in the transition table, 0 is used for chars that aren't in any
+  // pattern
+  private final int[] charCodes;
+  private final int alphabetSize;
+  private final int stateShift;
+  // (state << stateShift) + char code -> next state << stateShift, possibly with HAS_MATCHES set
+  private final int[] transitions;
+  // state -> bit mask of the patterns that end in this state
+  private final long[] matches;
+
+  /**
+   * Creates a matcher for the given patterns, the bit {@code 1L << i} in the result of {@link
+   * #match(CharSequence)} is set when the pattern {@code patterns[i]} was found.
+   */
+  public SubstringMatcher(String... patterns) {
+    if (patterns.length > Long.SIZE) {
+      throw new IllegalArgumentException("At most " + Long.SIZE + " patterns are supported");
+    }
+
+    TreeSet<Character> alphabet = new TreeSet<>();
+    for (String pattern : patterns) {
+      if (pattern.isEmpty()) {
+        throw new IllegalArgumentException("Patterns must not be empty");
+      }
+      for (int i = 0; i < pattern.length(); i++) {
+        alphabet.add(pattern.charAt(i));
+      }
+    }
+    charCodes = new int[alphabet.isEmpty() ? 0 : alphabet.last() + 1];
+    int code = 1;
+    for (char c : alphabet) {
+      charCodes[c] = code++;
+    }
+    if (code > MAX_ALPHABET_SIZE) {
+      throw new IllegalArgumentException("Patterns must use at most 255 distinct chars");
+    }
+    alphabetSize = code;
+    // the transitions of each state start at a power of two so that the state doesn't need to be
+    // multiplied by the alphabet size when looking up a transition
+    stateShift = Integer.SIZE - Integer.numberOfLeadingZeros(alphabetSize - 1);
+
+    // build the trie of all patterns, -1 marks a missing transition
+    List<int[]> gotos = new ArrayList<>();
+    List<Long> outputs = new ArrayList<>();
+    gotos.add(newStateTransitions());
+    outputs.add(0L);
+    for (int p = 0; p < patterns.length; p++) {
+      int state = ROOT;
+      for (int i = 0; i < patterns[p].length(); i++) {
+        int c = charCodes[patterns[p].charAt(i)];
+        if (gotos.get(state)[c] == -1) {
+          gotos.get(state)[c] = gotos.size();
+          gotos.add(newStateTransitions());
+          outputs.add(0L);
+        }
+        state = gotos.get(state)[c];
+      }
+      outputs.set(state, outputs.get(state) | (1L << p));
+    }
+
+    // breadth first traversal computes the failure links and turns the trie into a complete
+    // automaton: a missing transition continues from the state of the failure link
+    int stateCount = gotos.size();
+    int[][] automaton = new int[stateCount][];
+    long[] stateMatches = new long[stateCount];
+    int[] failure = new int[stateCount];
+    Queue<Integer> queue = new ArrayDeque<>();
+    automaton[ROOT] = new int[alphabetSize];
+    for (int c = 1; c < alphabetSize; c++) {
+      int next = gotos.get(ROOT)[c];
+      if (next != -1) {
+        automaton[ROOT][c] = next;
+        failure[next] = ROOT;
+        queue.add(next);
+      }
+    }
+    stateMatches[ROOT] = outputs.get(ROOT);
+    while (!queue.isEmpty()) {
+      int state = queue.remove();
+      stateMatches[state] = outputs.get(state) | stateMatches[failure[state]];
+      automaton[state] = new int[alphabetSize];
+      for (int c = 0; c < alphabetSize; c++) {
+        int next = gotos.get(state)[c];
+        if (next == -1 || c == 0) {
+          automaton[state][c] = automaton[failure[state]][c];
+        } else {
+          automaton[state][c] = next;
+          failure[next] = automaton[failure[state]][c];
+          queue.add(next);
+        }
+      }
+    }
+
+    transitions = new int[stateCount << stateShift];
+    for (int state = 0; state < stateCount; state++) {
+      for (int c = 0; c < alphabetSize; c++) {
+        int next = automaton[state][c];
+        transitions[(state << stateShift) + c] =
+            (next << stateShift) | (stateMatches[next] != 0 ? HAS_MATCHES : 0);
+      }
+    }
+    matches = stateMatches;
+  }
+
+  private int[] newStateTransitions() {
+    int[] result = new int[alphabetSize];
+    Arrays.fill(result, -1);
+    return result;
+  }
+
+  /** Returns a bit mask of the patterns that occur in {@code str}. */
+  public long match(CharSequence str) {
+    int[] charCodes = this.charCodes;
+    int[] transitions = this.transitions;
+    int state = ROOT;
+    long result = 0;
+    for (int i = 0; i < str.length(); i++) {
+      char c = str.charAt(i);
+      int next = transitions[state + (c < charCodes.length ? charCodes[c] : 0)];
+      if (next < 0) {
+        next &= ~HAS_MATCHES;
+        result |= matches[next >>> stateShift];
+      }
+      state = next;
+    }
+    return result;
+  }
+}
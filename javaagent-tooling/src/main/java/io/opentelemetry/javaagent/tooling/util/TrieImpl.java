@@ -6,60 +6,63 @@
 package io.opentelemetry.javaagent.tooling.util;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import javax.annotation.Nullable;
-
+import java.util.Queue;
+import java.util.TreeSet;
+
+/**
+ * Double-array trie: the children of the state {@code s} are stored at {@code base[s] + code(c)},
+ * and {@code check[base[s] + code(c)] == s} tells whether the transition for the char {@code c}
+ * exists. Compared to linked nodes this needs only a few array reads per char and no pointer
+ * chasing.
+ */
 final class TrieImpl<V> implements Trie<V> {
 
-  private final Node<V> root;
+  private static final int ROOT = 0;
+  private static final int FREE = -1;
+
+  // maps chars to their codes in the transition table, 0 means that no key contains the char
+  private final int[] charCodes;
+  private final int[] base;
+  private final int[] check;
+  private final Object[] values;
 
-  private TrieImpl(Node<V> root) {
-    this.root = root;
+  private TrieImpl(int[] charCodes, int[] base, int[] check, Object[] values) {
+    this.charCodes = charCodes;
+    this.base = base;
+    this.check = check;
+    this.values = values;
   }
 
   @Override
+  @SuppressWarnings("unchecked") // values contains only V instances
   public V getOrDefault(CharSequence str, V defaultValue) {
-    Node<V> node = root;
+    int state = ROOT;
     V lastMatchedValue = defaultValue;
 
     for (int i = 0; i < str.length(); ++i) {
       char c = str.charAt(i);
-      Node<V> next = node.getNext(c);
-      if (next == null) {
+      if (c >= charCodes.length || charCodes[c] == 0) {
+        return lastMatchedValue;
+      }
+      int next = base[state] + charCodes[c];
+      if (next >= check.length || check[next] != state) {
         return lastMatchedValue;
       }
-      node = next;
-      // next node matched, use its value if it's defined
-      lastMatchedValue = next.value != null ? next.value : lastMatchedValue;
+      state = next;
+      // next state matched, use its value if it's defined
+      Object value = values[state];
+      if (value != null) {
+        lastMatchedValue = (V) value;
+      }
     }
 
     return lastMatchedValue;
   }
 
-  static final class Node<V> {
-    final char[] chars;
-    final Node<V>[] children;
-    final V value;
-
-    Node(char[] chars, Node<V>[] children, V value) {
-      this.chars = chars;
-      this.children = children;
-      this.value = value;
-    }
-
-    @Nullable
-    Node<V> getNext(char c) {
-      int index = Arrays.binarySearch(chars, c);
-      if (index < 0) {
-        return null;
-      }
-      return children[index];
-    }
-  }
-
   static final class BuilderImpl<V> implements Builder<V> {
 
     private final NodeBuilder<V> root = new NodeBuilder<>();
@@ -67,46 +70,131 @@ final class TrieImpl<V> implements Trie<V> {
     @Override
     @CanIgnoreReturnValue
     public Builder<V> put(CharSequence str, V value) {
-      put(root, str, 0, value);
+      NodeBuilder<V> node = root;
+      for (int i = 0; i < str.length(); i++) {
+        node = node.children.computeIfAbsent(str.charAt(i), k -> new NodeBuilder<>());
+      }
+      node.value = value;
       return this;
     }
 
-    private void put(NodeBuilder<V> node, CharSequence str, int i, V value) {
-      if (str.length() == i) {
-        node.value = value;
-        return;
+    @Override
+    public Trie<V> build() {
+      TreeSet<Character> alphabet = new TreeSet<>();
+      collectAlphabet(root, alphabet);
+      int[] charCodes = new int[alphabet.isEmpty() ? 0 : alphabet.last() + 1];
+      int code = 1;
+      for (char c : alphabet) {
+        charCodes[c] = code++;
       }
-      char c = str.charAt(i);
-      NodeBuilder<V> next = node.children.computeIfAbsent(c, k -> new NodeBuilder<>());
-      put(next, str, i + 1, value);
+
+      DoubleArray array = new DoubleArray(alphabet.size() + 1);
+      Queue<NodeBuilder<V>> nodes = new ArrayDeque<>();
+      Queue<Integer> states = new ArrayDeque<>();
+      nodes.add(root);
+      states.add(ROOT);
+      while (!nodes.isEmpty()) {
+        NodeBuilder<V> node = nodes.remove();
+        int state = states.remove();
+        if (node.children.isEmpty()) {
+          continue;
+        }
+
+        int[] codes = new int[node.children.size()];
+        int i = 0;
+        for (char c : node.children.keySet()) {
+          codes[i++] = charCodes[c];
+        }
+        Arrays.sort(codes);
+        int base = array.findBase(codes);
+        array.base[state] = base;
+        for (Map.Entry<Character, NodeBuilder<V>> child : node.children.entrySet()) {
+          int childState = base + charCodes[child.getKey()];
+          array.check[childState] = state;
+          array.values[childState] = child.getValue().value;
+          nodes.add(child.getValue());
+          states.add(childState);
+        }
+      }
+
+      int length = array.usedLength();
+      return new TrieImpl<>(
+          charCodes,
+          Arrays.copyOf(array.base, length),
+          Arrays.copyOf(array.check, length),
+          Arrays.copyOf(array.values, length));
     }
 
-    @Override
-    public Trie<V> build() {
-      return new TrieImpl<>(root.build());
+    private static void collectAlphabet(NodeBuilder<?> node, TreeSet<Character> alphabet) {
+      for (Map.Entry<Character, ? extends NodeBuilder<?>> child : node.children.entrySet()) {
+        alphabet.add(child.getKey());
+        collectAlphabet(child.getValue(), alphabet);
+      }
     }
   }
 
   static final class NodeBuilder<V> {
     final Map<Character, NodeBuilder<V>> children = new HashMap<>();
     V value;
+  }
+
+  private static final class DoubleArray {
+    int[] base;
+    int[] check;
+    Object[] values;
+    // all slots below this index are in use
+    private int firstFree = 1;
+    private int maxUsed = ROOT;
+
+    DoubleArray(int initialSize) {
+      base = new int[initialSize];
+      check = new int[initialSize];
+      values = new Object[initialSize];
+      Arrays.fill(check, FREE);
+      check[ROOT] = ROOT;
+    }
+
+    /** Finds the first base for which the slots of all children are free and reserves them. */
+    int findBase(int[] codes) {
+      while (firstFree < check.length && check[firstFree] != FREE) {
+        firstFree++;
+      }
+      int base = Math.max(1, firstFree - codes[0]);
+      while (!isFree(base, codes)) {
+        base++;
+      }
+      for (int code : codes) {
+        // mark the slot as used, check is overwritten with the parent state by the caller
+        check[base + code] = ROOT;
+        maxUsed = Math.max(maxUsed, base + code);
+      }
+      return base;
+    }
 
-    Node<V> build() {
-      int size = children.size();
-      char[] chars = new char[size];
-      @SuppressWarnings({"unchecked", "rawtypes"}) // generic array creation
-      Node<V>[] nodes = new Node[size];
-
-      int i = 0;
-      Iterator<Map.Entry<Character, NodeBuilder<V>>> it =
-          this.children.entrySet().stream().sorted(Map.Entry.comparingByKey()).iterator();
-      while (it.hasNext()) {
-        Map.Entry<Character, NodeBuilder<V>> e = it.next();
-        chars[i] = e.getKey();
-        nodes[i++] = e.getValue().build();
+    private boolean isFree(int base, int[] codes) {
+      ensureCapacity(base + codes[codes.length - 1] + 1);
+      for (int code : codes) {
+        if (check[base + code] != FREE) {
+          return false;
+        }
       }
+      return true;
+    }
+
+    private void ensureCapacity(int size) {
+      if (size <= check.length) {
+        return;
+      }
+      int newSize = Math.max(size, check.length * 2);
+      int oldSize = check.length;
+      base = Arrays.copyOf(base, newSize);
+      check = Arrays.copyOf(check, newSize);
+      values = Arrays.copyOf(values, newSize);
+      Arrays.fill(check, oldSize, newSize, FREE);
+    }
 
-      return new Node<>(chars, nodes, value);
+    int usedLength() {
+      return maxUsed + 1;
     }
   }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.instrument.Instrumentation;
+import java.lang.instrument.UnmodifiableClassException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+class ParallelRetransformerTest {
+
+  private static final List<Class<?>> CLASSES =
+      Arrays.asList(
+          String.class,
+          Integer.class,
+          Long.class,
+          Short.class,
+          Byte.class,
+          Double.class,
+          Float.class,
+          Character.class,
+          Boolean.class,
+          Object.class);
+
+  @Test
+  void retransformsAllClassesInBatches() {
+    Set<Class<?>> retransformed = ConcurrentHashMap.newKeySet();
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    ParallelRetransformer retransformer =
+        new ParallelRetransformer(
+            instrumentation(
+                classes -> {
+                  batchSizes.add(classes.length);
+                  retransformed.addAll(Arrays.asList(classes));
+                }),
+            2);
+
+    assertThat(retransformer.batch(CLASSES)).isEmpty();
+    retransformer.awaitCompletion();
+
+    assertThat(retransformed).containsExactlyInAnyOrderElementsOf(CLASSES);
+    assertThat(batchSizes).hasSizeGreaterThan(1).allMatch(size -> size < CLASSES.size());
+  }
+
+  @Test
+  void continuesAfterFailedBatch() {
+    Set<Class<?>> retransformed = ConcurrentHashMap.newKeySet();
+    ParallelRetransformer retransformer =
+        new ParallelRetransformer(
+            instrumentation(
+                classes -> {
+                  if (Arrays.asList(classes).contains(String.class)) {
+                    throw new UnmodifiableClassException();
+                  }
+                  retransformed.addAll(Arrays.asList(classes));
+                }),
+            2);
+
+    retransformer.batch(CLASSES);
+    retransformer.awaitCompletion();
+
+    assertThat(retransformed).doesNotContain(String.class).contains(Object.class);
+  }
+
+  private static Instrumentation instrumentation(RetransformClasses retransformClasses) {
+    return (Instrumentation)
+        Proxy.newProxyInstance(
+            ParallelRetransformerTest.class.getClassLoader(),
+            new Class<?>[] {Instrumentation.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("retransformClasses")) {
+                retransformClasses.retransform((Class<?>[]) args[0]);
+                return null;
+              }
+              throw new UnsupportedOperationException(method.getName());
+            });
+  }
+
+  private interface RetransformClasses {
+    void retransform(Class<?>[] classes) throws UnmodifiableClassException;
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.ignore;
+
+import static net.bytebuddy.matcher.ElementMatchers.none;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.IllegalClassFormatException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentIgnoredTypesCacheTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void ignoresTypesRecordedInPreviousRun() throws Exception {
+    Path cacheFile = tempDir.resolve("ignored-types.cache");
+    Path jar = createJar("app.jar", "com.example.Foo");
+
+    Run firstRun = new Run(cacheFile, "1");
+    firstRun.load(jar, "com.example.Foo");
+    assertThat(firstRun.matchedTypes).containsExactly("com.example.Foo");
+    firstRun.cache.save();
+
+    Run secondRun = new Run(cacheFile, "1");
+    secondRun.load(jar, "com.example.Foo");
+    secondRun.load(jar, "com.example.Bar");
+    // the type matchers are not evaluated for the class that wasn't transformed in the first run
+    assertThat(secondRun.matchedTypes).containsExactly("com.example.Bar");
+  }
+
+  @Test
+  void discardedWhenFingerprintChanges() throws Exception {
+    Path cacheFile = tempDir.resolve("ignored-types.cache");
+    Path jar = createJar("app.jar", "com.example.Foo");
+
+    Run firstRun = new Run(cacheFile, "1");
+    firstRun.load(jar, "com.example.Foo");
+    firstRun.cache.save();
+
+    Run secondRun = new Run(cacheFile, "2");
+    secondRun.load(jar, "com.example.Foo");
+    assertThat(secondRun.matchedTypes).containsExactly("com.example.Foo");
+  }
+
+  @Test
+  void discardedWhenJarChanges() throws Exception {
+    Path cacheFile = tempDir.resolve("ignored-types.cache");
+    Path jar = createJar("app.jar", "com.example.Foo");
+
+    Run firstRun = new Run(cacheFile, "1");
+    firstRun.load(jar, "com.example.Foo");
+    firstRun.cache.save();
+
+    createJar("app.jar", "com.example.Foo", "com.example.Bar");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(0));
+
+    Run secondRun = new Run(cacheFile, "1");
+    secondRun.load(jar, "com.example.Foo");
+    assertThat(secondRun.matchedTypes).containsExactly("com.example.Foo");
+  }
+
+  @Test
+  void notReusedInDifferentClassLoaderContext() throws Exception {
+    Path cacheFile = tempDir.resolve("ignored-types.cache");
+    Path jar = createJar("app.jar", "com.example.Foo");
+    Path otherJar = createJar("other.jar", "com.example.Base");
+
+    Run firstRun = new Run(cacheFile, "1");
+    firstRun.load(jar, "com.example.Foo");
+    firstRun.cache.save();
+
+    Run secondRun = new Run(cacheFile, "1");
+    // a class loader that can also see the classes of another jar, which could change the super
+    // types of the class
+    try (URLClassLoader classLoader = newClassLoader(jar, otherJar)) {
+      secondRun.load(classLoader, jar, "com.example.Foo");
+    }
+    // while the verdict is still used by a class loader with the same context
+    secondRun.load(jar, "com.example.Foo");
+    assertThat(secondRun.matchedTypes).containsExactly("com.example.Foo");
+  }
+
+  @Test
+  void generatedClassesAreNotRecorded() throws Exception {
+    Path cacheFile = tempDir.resolve("ignored-types.cache");
+    Path jar = createJar("app.jar", "com.example.Foo");
+
+    Run firstRun = new Run(cacheFile, "1");
+    // defined at runtime with the protection domain of the jar, but not contained in the jar
+    firstRun.load(jar, "com.example.GeneratedFoo");
+    firstRun.cache.save();
+
+    Run secondRun = new Run(cacheFile, "1");
+    secondRun.load(jar, "com.example.GeneratedFoo");
+    assertThat(secondRun.matchedTypes).containsExactly("com.example.GeneratedFoo");
+  }
+
+  @Test
+  void directoriesAreNotCached() throws Exception {
+    Path cacheFile = tempDir.resolve("ignored-types.cache");
+    Path jar = createJar("app.jar", "com.example.Foo");
+    Path directory = Files.createDirectory(tempDir.resolve("classes"));
+
+    Run firstRun = new Run(cacheFile, "1");
+    try (URLClassLoader classLoader = newClassLoader(jar, directory)) {
+      firstRun.load(classLoader, jar, "com.example.Foo");
+    }
+    firstRun.cache.save();
+
+    Run secondRun = new Run(cacheFile, "1");
+    try (URLClassLoader classLoader = newClassLoader(jar, directory)) {
+      secondRun.load(classLoader, jar, "com.example.Foo");
+    }
+    assertThat(secondRun.matchedTypes).containsExactly("com.example.Foo");
+  }
+
+  @Test
+  void loaderContext() throws IOException {
+    Path jar = createJar("app.jar", "com.example.Foo");
+    try (URLClassLoader classLoader = newClassLoader(jar)) {
+      assertThat(PersistentIgnoredTypesCache.loaderContext(classLoader))
+          .startsWith(URLClassLoader.class.getName() + " " + jar.toUri().toURL() + "=")
+          .endsWith(" < bootstrap");
+    }
+    try (URLClassLoader classLoader = newClassLoader(tempDir)) {
+      assertThat(PersistentIgnoredTypesCache.loaderContext(classLoader)).isNull();
+    }
+  }
+
+  @Test
+  void toJarFile() throws IOException {
+    assertThat(PersistentIgnoredTypesCache.toJarFile(new URL("file:/app/app.jar")))
+        .isEqualTo(Paths.get("/app/app.jar"));
+    assertThat(
+            PersistentIgnoredTypesCache.toJarFile(
+                new URL("jar:file:/app/app.jar!/BOOT-INF/lib/lib.jar!/")))
+        .isEqualTo(Paths.get("/app/app.jar"));
+    assertThat(PersistentIgnoredTypesCache.toJarFile(new URL("http://example.com/app.jar")))
+        .isNull();
+  }
+
+  private Path createJar(String name, String... classNames) throws IOException {
+    Path jar = tempDir.resolve(name);
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for (String className : classNames) {
+        out.putNextEntry(new JarEntry(className.replace('.', '/') + ".class"));
+        out.write(classBytes(className));
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private static byte[] classBytes(String className) {
+    return new ByteBuddy().subclass(Object.class).name(className).make().getBytes();
+  }
+
+  private static URLClassLoader newClassLoader(Path... locations) throws IOException {
+    URL[] urls = new URL[locations.length];
+    for (int i = 0; i < locations.length; i++) {
+      urls[i] = locations[i].toUri().toURL();
+    }
+    return new URLClassLoader(urls, null);
+  }
+
+  /** Passes classes through an agent builder that is configured the same way as the agent. */
+  private static class Run {
+    final PersistentIgnoredTypesCache cache;
+    final List<String> matchedTypes = new CopyOnWriteArrayList<>();
+    final ClassFileTransformer transformer;
+
+    Run(Path cacheFile, String fingerprint) {
+      cache = new PersistentIgnoredTypesCache(cacheFile, fingerprint);
+      transformer =
+          new AgentBuilder.Default()
+              .ignore(none())
+              .or(cache.matcher())
+              .with(cache.listener())
+              .type(
+                  typeDescription -> {
+                    // stands in for the type matchers of the instrumentation modules
+                    matchedTypes.add(typeDescription.getName());
+                    return false;
+                  })
+              .transform((builder, typeDescription, classLoader, module, pd) -> builder)
+              .makeRaw();
+    }
+
+    void load(Path jar, String className) throws IOException, IllegalClassFormatException {
+      try (URLClassLoader classLoader = newClassLoader(jar)) {
+        load(classLoader, jar, className);
+      }
+    }
+
+    void load(ClassLoader classLoader, Path jar, String className)
+        throws IOException, IllegalClassFormatException {
+      ProtectionDomain protectionDomain =
+          new ProtectionDomain(
+              new CodeSource(jar.toUri().toURL(), (Certificate[]) null), null, classLoader, null);
+      transformer.transform(
+          classLoader,
+          className.replace('.', '/'),
+          null,
+          protectionDomain,
+          classBytes(className));
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClassLoaderFingerprintTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void sameJars() throws IOException {
+    Path jar = newJar("shared", new byte[] {1, 2, 3});
+    ClassLoader first = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null);
+    ClassLoader second = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null);
+
+    assertThat(ClassLoaderFingerprint.get(first))
+        .isNotNull()
+        .isEqualTo(ClassLoaderFingerprint.get(second));
+  }
+
+  @Test
+  void sameJarNamesInDifferentDirectories() throws IOException {
+    Path firstJar = newJar("first", new byte[] {1, 2, 3});
+    Path secondJar = newJar("second", new byte[] {1, 2, 3});
+    ClassLoader first = new URLClassLoader(new URL[] {firstJar.toUri().toURL()}, null);
+    ClassLoader second = new URLClassLoader(new URL[] {secondJar.toUri().toURL()}, null);
+
+    assertThat(ClassLoaderFingerprint.get(first)).isNotEqualTo(ClassLoaderFingerprint.get(second));
+  }
+
+  @Test
+  void differentClassesDirectories() throws IOException {
+    Path jar = newJar("shared", new byte[] {1, 2, 3});
+    ClassLoader first = newClassLoaderWithClasses("first", new byte[] {1}, jar);
+    ClassLoader second = newClassLoaderWithClasses("second", new byte[] {2}, jar);
+
+    assertThat(ClassLoaderFingerprint.get(first)).isNull();
+    assertThat(ClassLoaderFingerprint.get(second)).isNull();
+  }
+
+  @Test
+  void addedUrlInvalidatesFingerprint() throws IOException {
+    Path jar = newJar("shared", new byte[] {1, 2, 3});
+    Path addedJar = newJar("added", new byte[] {4, 5, 6});
+    TestClassLoader classLoader = new TestClassLoader(new URL[] {jar.toUri().toURL()});
+
+    String fingerprint = ClassLoaderFingerprint.get(classLoader);
+    classLoader.addURL(addedJar.toUri().toURL());
+
+    assertThat(ClassLoaderFingerprint.get(classLoader)).isNotNull().isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  void notUrlClassLoader() {
+    assertThat(ClassLoaderFingerprint.get(new ClassLoader(null) {})).isNull();
+  }
+
+  private Path newJar(String directory, byte[] content) throws IOException {
+    Path jar =
+        Files.write(
+            Files.createDirectories(tempDir.resolve(directory)).resolve("library.jar"), content);
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(1_000_000));
+    return jar;
+  }
+
+  private ClassLoader newClassLoaderWithClasses(String directory, byte[] classContent, Path jar)
+      throws IOException {
+    Path classes = Files.createDirectories(tempDir.resolve(directory).resolve("classes"));
+    Files.write(classes.resolve("Library.class"), classContent);
+    return new URLClassLoader(
+        new URL[] {classes.toUri().toURL(), jar.toUri().toURL()}, /* parent= */ null);
+  }
+
+  private static class TestClassLoader extends URLClassLoader {
+    TestClassLoader(URL[] urls) {
+      super(urls, /* parent= */ null);
+    }
+
+    @Override
+    public void addURL(URL url) {
+      super.addURL(url);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.javaagent.tooling.instrumentation.http.UrlTemplateRules.Rule;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class UrlTemplateMatcherTest {
+
+  @Test
+  void literalPrefix() {
+    assertThat(prefix("^https://example\\.com/users/\\d+$"))
+        .isEqualTo("https://example.com/users/");
+    assertThat(prefix("^https://example\\.com/items?/.*$")).isEqualTo("https://example.com/item");
+    assertThat(prefix("^http.*$")).isEqualTo("http");
+    assertThat(prefix("^.*/users/\\d+$")).isEmpty();
+    assertThat(prefix("^https://a\\.com/x$|^https://b\\.com/y$")).isEmpty();
+    assertThat(prefix("^(?i)https://example\\.com/.*$")).isEmpty();
+    assertThat(
+            UrlTemplateMatcher.literalPrefix(
+                Pattern.compile("^https://example\\.com/.*$", Pattern.CASE_INSENSITIVE)))
+        .isEmpty();
+  }
+
+  @Test
+  void firstMatchingRuleWins() {
+    UrlTemplateMatcher matcher =
+        new UrlTemplateMatcher(
+            Arrays.asList(
+                rule("^.*/health$", "/health", false),
+                rule("^https://example\\.com/users/\\d+$", "/users/{id}", false),
+                rule("^https://example\\.com/.*$", "/other", true),
+                rule("^https://example\\.com/users/.*$", "/users/*", false)));
+
+    assertThat(matcher.apply("https://example.com/health", false)).isEqualTo("/health");
+    assertThat(matcher.apply("https://example.com/users/1", false)).isEqualTo("/users/{id}");
+    assertThat(matcher.apply("https://example.com/users/x", false)).isEqualTo("/other");
+    assertThat(matcher.apply("https://example.com/users/1", true)).isEqualTo("/other");
+    assertThat(matcher.apply("https://other.com/users/1", false)).isNull();
+  }
+
+  private static String prefix(String regex) {
+    return UrlTemplateMatcher.literalPrefix(Pattern.compile(regex));
+  }
+
+  private static Rule rule(String regex, String replacement, boolean override) {
+    return new Rule(Pattern.compile(regex), replacement, override);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class SubstringMatcherTest {
+  @Test
+  void shouldFindAllPatterns() {
+    SubstringMatcher matcher = new SubstringMatcher("$$", "$$Lambda$", "anon", "a.b");
+
+    assertEquals(0, matcher.match(""));
+    assertEquals(0, matcher.match("com.example.Foo"));
+    assertEquals(0b0001, matcher.match("Foo$$Bar"));
+    assertEquals(0b0011, matcher.match("Foo$$Lambda$1"));
+    assertEquals(0b0001, matcher.match("Foo$$Lambda"));
+    assertEquals(0b0100, matcher.match("anon"));
+    assertEquals(0b1101, matcher.match("a.b$anon$$"));
+  }
+
+  @Test
+  void shouldFindOverlappingPatterns() {
+    SubstringMatcher matcher = new SubstringMatcher("abcd", "bc", "c", "cdx");
+
+    assertEquals(0b0111, matcher.match("abcd"));
+    assertEquals(0b0110, matcher.match("abcx"));
+    assertEquals(0b1111, matcher.match("ababcdx"));
+  }
+
+  @Test
+  void shouldRejectTooManyPatterns() {
+    String[] patterns = new String[65];
+    for (int i = 0; i < patterns.length; i++) {
+      patterns[i] = "p" + i;
+    }
+    assertThrows(IllegalArgumentException.class, () -> new SubstringMatcher(patterns));
+  }
+}
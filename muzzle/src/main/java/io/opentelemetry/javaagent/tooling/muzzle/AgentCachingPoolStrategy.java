@@ -56,6 +56,11 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
       AgentInstrumentationConfig.get()
           .getBoolean("otel.instrumentation.internal-reflection.enabled", true);
   private static final Method findLoadedClassMethod = getFindLoadedClassMethod();
+  // type resolution during startup is mostly driven by recency, so frequency based admission
+  // isn't the default
+  private static final boolean TINY_LFU_ENABLED =
+      AgentInstrumentationConfig.get()
+          .getBoolean("otel.javaagent.experimental.type-cache.tiny-lfu.enabled", false);
 
   static final int TYPE_CAPACITY = 64;
 
@@ -75,7 +80,7 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
    * Single shared Type.Resolution cache -- uses a composite key -- conceptually of loader & name
    */
   final Cache<TypeCacheKey, TypePool.Resolution> sharedResolutionCache =
-      Cache.bounded(TYPE_CAPACITY);
+      TINY_LFU_ENABLED ? Cache.tinyLfu(TYPE_CAPACITY) : Cache.bounded(TYPE_CAPACITY);
 
   // fast path for bootstrap
   final SharedResolutionCacheAdapter bootstrapCacheProvider =